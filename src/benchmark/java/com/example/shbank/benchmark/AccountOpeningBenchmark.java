@@ -0,0 +1,147 @@
+package com.example.shbank.benchmark;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 계좌 대량 개설 비교 (기본 1만 건, -Dbenchmark.accounts 로 변경)
+// 1. identity      : 예전 방식 재현 - AUTO_INCREMENT INSERT 후 받은 ID 로 계좌번호 UPDATE (계좌마다 두 번 왕복)
+// 2. flush-each    : 시퀀스 ID + INSERT 때 계좌번호 생성, createAccount 처럼 계좌마다 flush (계좌마다 한 번 왕복)
+// 3. batched       : 시퀀스 ID + saveAll, hibernate.jdbc.batch_size 로 묶어서 INSERT
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccountOpeningBenchmark {
+
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 10_000);
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_bench")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+
+    @BeforeAll
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("bench@example.com")
+                .name("bench")
+                .password("x")
+                .build());
+
+        // 예전 IDENTITY 매핑과 같은 구조의 테이블
+        jdbcTemplate.execute("create table bench_identity_accounts like accounts");
+        jdbcTemplate.execute("alter table bench_identity_accounts modify id bigint not null auto_increment");
+    }
+
+    @Test
+    void compareAccountOpening() {
+        System.out.printf("%n%-14s %10s %12s %14s%n", "strategy", "accounts", "elapsed(ms)", "accounts/s");
+
+        report("identity", () -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ACCOUNTS; i++) {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                String name = "identity-" + i;
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement("""
+                            insert into bench_identity_accounts
+                                (user_id, account_number, account_name, balance, auth_password, status, type, version, created_at)
+                            values (?, concat('temp-', ?), ?, 0, 'x', 'ACTIVE', 'CHECKING', 0, now())
+                            """, Statement.RETURN_GENERATED_KEYS);
+                    ps.setLong(1, owner.getId());
+                    ps.setString(2, name);
+                    ps.setString(3, name);
+                    return ps;
+                }, keyHolder);
+                long id = keyHolder.getKey().longValue();
+                jdbcTemplate.update("update bench_identity_accounts set account_number = ? where id = ?",
+                        Account.accountNumberOf(id), id);
+            }
+        }));
+
+        report("flush-each", () -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ACCOUNTS; i++) {
+                accountRepository.saveAndFlush(account("flush-" + i));
+                entityManager.clear();
+            }
+        }));
+
+        report("batched", () -> transactionTemplate.executeWithoutResult(status -> {
+            List<Account> accounts = new ArrayList<>(ACCOUNTS);
+            for (int i = 0; i < ACCOUNTS; i++) {
+                accounts.add(account("batched-" + i));
+            }
+            accountRepository.saveAll(accounts);
+            entityManager.flush();
+            entityManager.clear();
+        }));
+
+        assertThat(accountRepository.findAll())
+                .allSatisfy(a -> assertThat(a.getAccountNumber()).isEqualTo(Account.accountNumberOf(a.getId())));
+    }
+
+    private void report(String name, Runnable work) {
+        long started = System.nanoTime();
+        work.run();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        System.out.printf("%-14s %,10d %,12d %,14.0f%n", name, ACCOUNTS, elapsedMillis,
+                ACCOUNTS * 1000.0 / Math.max(elapsedMillis, 1));
+    }
+
+    private Account account(String accountName) {
+        return Account.builder()
+                .user(owner)
+                .accountName(accountName)
+                .authPassword("x")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.shbank.benchmark;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.LedgerService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가맹점 계좌 하나로 입금이 몰릴 때의 경합 비교 (기본 32개 스레드 x 스레드당 500건)
+// mvn -Pbenchmark test -Dtest=HotAccountContentionBenchmark -Dbenchmark.writers=64 -Dbenchmark.stripes=16
+// 1. single-row : 예전 방식 재현 - 입금마다 계좌 행 UPDATE (모든 입금이 같은 행 잠금을 기다린다)
+// 2. striped    : 잔액을 stripes 개 행으로 나누고 입금마다 임의의 행을 UPDATE (벤치마크용 테이블)
+// 3. ledger     : 지금 방식 - 입금마다 원장에 INSERT (행 잠금 없음), 끝난 뒤 compact 로 스냅샷에 반영
+// 4. ledger+debit : 3 과 같지만 출금 스레드(benchmark.debiters, 기본 4)가 같은 계좌에서 동시에 출금한다
+//    (출금은 계좌 행만 잠그고 원장은 잠그지 않고 읽으므로 입금 지연이 3 과 비슷해야 한다)
+// 입금 한 건이 트랜잭션 하나 (커밋까지 포함한 지연)
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotAccountContentionBenchmark {
+
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 32);
+    private static final int CREDITS_PER_WRITER = Integer.getInteger("benchmark.credits-per-writer", 500);
+    private static final int STRIPES = Integer.getInteger("benchmark.stripes", 16);
+    private static final int DEBITERS = Integer.getInteger("benchmark.debiters", 4);
+    private static final long AMOUNT = 1_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_bench")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        // 쓰기/출금 스레드마다 커넥션 하나
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> WRITERS + DEBITERS + 2);
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Account merchant;
+
+    @BeforeAll
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .email("merchant@example.com")
+                .name("merchant")
+                .password("x")
+                .build());
+        merchant = accountRepository.save(Account.builder()
+                .user(owner)
+                .accountName("가맹점")
+                .authPassword("x")
+                .type(AccountType.MERCHANT)
+                .build());
+
+        jdbcTemplate.execute("""
+                create table bench_account_stripes (
+                    account_id bigint not null,
+                    stripe int not null,
+                    balance bigint not null,
+                    primary key (account_id, stripe))
+                """);
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            jdbcTemplate.update("insert into bench_account_stripes values (?, ?, 0)", merchant.getId(), stripe);
+        }
+    }
+
+    @Test
+    void compareHotAccountCredits() throws Exception {
+        long expected = (long) WRITERS * CREDITS_PER_WRITER * AMOUNT;
+        System.out.printf("%n%d writers x %d credits, %d stripes%n", WRITERS, CREDITS_PER_WRITER, STRIPES);
+        System.out.printf("%-12s %12s %12s %10s %10s %10s%n",
+                "strategy", "elapsed(ms)", "credits/s", "p50(ms)", "p99(ms)", "max(ms)");
+
+        report("single-row", amount -> jdbcTemplate.update("""
+                update accounts set balance = balance + ?, version = version + 1, updated_at = current_timestamp
+                where id = ?
+                """, amount, merchant.getId()));
+        assertThat(accountRepository.findById(merchant.getId()).orElseThrow().getBalance()).isEqualTo(expected);
+
+        report("striped", amount -> jdbcTemplate.update("""
+                update bench_account_stripes set balance = balance + ?
+                where account_id = ? and stripe = ?
+                """, amount, merchant.getId(), ThreadLocalRandom.current().nextInt(STRIPES)));
+        assertThat(jdbcTemplate.queryForObject("select sum(balance) from bench_account_stripes where account_id = ?",
+                Long.class, merchant.getId())).isEqualTo(expected);
+
+        report("ledger", amount -> ledgerService.credit(merchant.getId(), null, amount));
+        assertThat(accountRepository.findBalanceById(merchant.getId())).isEqualTo(expected * 2);
+
+        long started = System.nanoTime();
+        int compacted = 0;
+        for (int n; (n = ledgerService.compact()) > 0; ) {
+            compacted += n;
+        }
+        System.out.printf("compact: %,d entries in %,d ms%n", compacted, (System.nanoTime() - started) / 1_000_000);
+        assertThat(accountRepository.findById(merchant.getId()).orElseThrow().getBalance()).isEqualTo(expected * 2);
+
+        long debited = withDebits(() -> {
+            report("ledger+debit", amount -> ledgerService.credit(merchant.getId(), null, amount));
+            return null;
+        });
+        System.out.printf("debits: %,d%n", debited / AMOUNT);
+        assertThat(accountRepository.findBalanceById(merchant.getId())).isEqualTo(expected * 3 - debited);
+    }
+
+    // body 를 실행하는 동안 DEBITERS 개 스레드가 서비스와 같은 순서(계좌 행 잠금 -> 원장 일반 SELECT -> UPDATE)로
+    // 가맹점 계좌에서 출금한다 (출금한 합계 반환)
+    private long withDebits(Callable<Void> body) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong debited = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(DEBITERS);
+        List<Future<?>> futures = new ArrayList<>(DEBITERS);
+        for (int d = 0; d < DEBITERS; d++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (ledgerService.lockAvailableBalance(merchant.getId()).orElse(0L) >= AMOUNT) {
+                            accountRepository.withdraw(merchant.getId(), AMOUNT);
+                            debited.addAndGet(AMOUNT);
+                        }
+                    });
+                }
+                return null;
+            }));
+        }
+        try {
+            body.call();
+        } finally {
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+        }
+        return debited.get();
+    }
+
+    private void report(String name, LongConsumer credit) throws Exception {
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(60), 3);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(WRITERS);
+        for (int w = 0; w < WRITERS; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CREDITS_PER_WRITER; i++) {
+                    long begin = System.nanoTime();
+                    transactionTemplate.executeWithoutResult(status -> credit.accept(AMOUNT));
+                    histogram.recordValue(System.nanoTime() - begin);
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        executor.shutdown();
+
+        System.out.printf("%-12s %,12d %,12.0f %10.2f %10.2f %10.2f%n", name, elapsedMillis,
+                histogram.getTotalCount() * 1000.0 / Math.max(elapsedMillis, 1),
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+}
@@ -0,0 +1,406 @@
+package com.example.shbank.benchmark;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 종단 간 부하 테스트: 실제 HTTP 로 이체 / 거래 내역 / 로그인 요청을 섞어 보내고 엔드포인트별 처리량과 지연 분포를 잰다
+// MySQL 은 Testcontainers, Redis 는 내장 redis-server 로 띄운다
+// mvn -Pbenchmark test -Dtest=LoadTestBenchmark
+//   -Dload.users=100 -Dload.accounts-per-user=2 -Dload.transactions-per-account=50  : 시드 데이터 크기
+//   -Dload.concurrency=16 -Dload.warmup-seconds=10 -Dload.duration-seconds=30       : 동시 요청 수, 측정 시간
+//   -Dload.mix=transfer:50,history:40,login:10                                       : 요청 비율
+// 엔드포인트별 분포는 target/load-test/<endpoint>.hgrm 에 남긴다 (HdrHistogram 형식, ms)
+// 응답을 받아야 다음 요청을 보내는 closed-loop 방식이라 서버가 멈춘 동안의 대기는 지연에 덜 잡힌다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "scheduled-transfer.enabled=false"
+})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTestBenchmark {
+
+    private static final int USERS = Integer.getInteger("load.users", 100);
+    private static final int ACCOUNTS_PER_USER = Integer.getInteger("load.accounts-per-user", 2);
+    private static final int TRANSACTIONS_PER_ACCOUNT = Integer.getInteger("load.transactions-per-account", 50);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final String MIX = System.getProperty("load.mix", "transfer:50,history:40,login:10");
+
+    private static final String PASSWORD = "123456";
+    private static final long INITIAL_BALANCE = 1_000_000_000;
+    private static final int SEED_CHUNK = 1_000;
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS = startRedis();
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_load")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    private enum Endpoint { TRANSFER, HISTORY, LOGIN }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+
+    private List<User> users;
+    private List<List<Account>> accountsByUser;
+    private String[] tokens;
+    private int[] mixThresholds;
+
+    @BeforeAll
+    void seed() {
+        long started = System.nanoTime();
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .email("load" + i + "@example.com")
+                    .name("부하" + i)
+                    .password(encodedPassword)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<Account> accounts = new ArrayList<>(USERS * ACCOUNTS_PER_USER);
+        accountsByUser = new ArrayList<>(USERS);
+        for (User user : users) {
+            List<Account> owned = new ArrayList<>(ACCOUNTS_PER_USER);
+            for (int i = 0; i < ACCOUNTS_PER_USER; i++) {
+                owned.add(Account.builder()
+                        .user(user)
+                        .accountName("부하 계좌 " + i)
+                        .balance(INITIAL_BALANCE)
+                        .authPassword(encodedPassword)
+                        .type(AccountType.CHECKING)
+                        .build());
+            }
+            accountsByUser.add(owned);
+            accounts.addAll(owned);
+        }
+        accountRepository.saveAll(accounts);
+
+        // 거래 내역 조회가 빈 페이지가 되지 않도록 계좌마다 과거 거래를 채운다 (약 SEED_CHUNK 건씩 커밋)
+        int accountsPerChunk = Math.max(1, SEED_CHUNK / Math.max(1, TRANSACTIONS_PER_ACCOUNT));
+        for (int from = 0; from < accounts.size(); from += accountsPerChunk) {
+            List<Account> chunk = accounts.subList(from, Math.min(from + accountsPerChunk, accounts.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Transaction> transactions = new ArrayList<>();
+                for (Account sender : chunk) {
+                    for (int i = 0; i < TRANSACTIONS_PER_ACCOUNT; i++) {
+                        transactions.add(Transaction.builder()
+                                .senderAccount(entityManager.getReference(Account.class, sender.getId()))
+                                .recipientAccount(entityManager.getReference(Account.class, randomAccount().getId()))
+                                .amount(1L)
+                                .balance(INITIAL_BALANCE)
+                                .type(TransactionType.TRANSFER_OUT)
+                                .status(TransactionStatus.COMPLETED)
+                                .build());
+                    }
+                }
+                transactionRepository.saveAll(transactions);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        mixThresholds = parseMix(MIX);
+        tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = login(i);
+        }
+
+        System.out.printf("%nseeded %,d users, %,d accounts, %,d transactions in %,d ms%n",
+                USERS, accounts.size(), (long) accounts.size() * TRANSACTIONS_PER_ACCOUNT,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @AfterAll
+    void stopRedis() throws IOException {
+        REDIS.stop();
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        run(WARMUP_SECONDS, newHistograms(), newCounters());
+
+        Map<Endpoint, Histogram> histograms = newHistograms();
+        Map<Endpoint, LongAdder> errors = newCounters();
+        long elapsedNanos = run(DURATION_SECONDS, histograms, errors);
+
+        report(histograms, errors, elapsedNanos);
+        for (Endpoint endpoint : Endpoint.values()) {
+            assertThat(errors.get(endpoint).sum()).as("%s 오류 응답", endpoint).isZero();
+        }
+    }
+
+    // seconds 동안 CONCURRENCY 개 스레드가 쉬지 않고 요청을 보낸다 (지연은 마이크로초로 기록)
+    private long run(int seconds, Map<Endpoint, Histogram> histograms, Map<Endpoint, LongAdder> errors)
+            throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Endpoint endpoint = pickEndpoint();
+                    long requestStarted = System.nanoTime();
+                    boolean ok = call(endpoint);
+                    histograms.get(endpoint).recordValue((System.nanoTime() - requestStarted) / 1_000);
+                    if (!ok) {
+                        errors.get(endpoint).increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        return System.nanoTime() - started;
+    }
+
+    private boolean call(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int userIndex = random.nextInt(USERS);
+        try {
+            return switch (endpoint) {
+                case TRANSFER -> {
+                    Account sender = accountsByUser.get(userIndex).get(random.nextInt(ACCOUNTS_PER_USER));
+                    Account recipient = randomAccount();
+                    yield send(HttpRequest.newBuilder(uri("/api/transactions/transfer"
+                                    + "?senderAccountId=" + sender.getId()
+                                    + "&recipientAccountNumber=" + recipient.getAccountNumber()
+                                    + "&amount=1&type=TRANSFER_OUT"))
+                            .header("Authorization", "Bearer " + tokens[userIndex])
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build()).statusCode() == 200;
+                }
+                case HISTORY -> {
+                    Account account = accountsByUser.get(userIndex).get(random.nextInt(ACCOUNTS_PER_USER));
+                    yield send(HttpRequest.newBuilder(uri("/api/transactions/" + account.getId() + "?size=20"))
+                            .header("Authorization", "Bearer " + tokens[userIndex])
+                            .GET()
+                            .build()).statusCode() == 200;
+                }
+                case LOGIN -> login(userIndex) != null;
+            };
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 성공하면 액세스 토큰, 실패하면 null
+    private String login(int userIndex) {
+        String body = "{\"email\":\"" + users.get(userIndex).getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body()).get("accessToken").asText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(Map<Endpoint, Histogram> histograms, Map<Endpoint, LongAdder> errors, long elapsedNanos)
+            throws IOException {
+        double seconds = elapsedNanos / 1e9;
+        File dir = new File("target/load-test");
+        dir.mkdirs();
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, mix=%s%n", CONCURRENCY, DURATION_SECONDS, MIX);
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            total += histogram.getTotalCount();
+            System.out.printf("%-10s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name().toLowerCase(), histogram.getTotalCount(), errors.get(endpoint).sum(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+
+            try (PrintStream out = new PrintStream(new File(dir, endpoint.name().toLowerCase() + ".hgrm"))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("%-10s %,10d %8s %,10.1f%n", "total", total, "", total / seconds);
+    }
+
+    private Endpoint pickEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(mixThresholds[mixThresholds.length - 1]);
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (pick < mixThresholds[endpoint.ordinal()]) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // "transfer:50,history:40,login:10" -> 누적 비율 [50, 90, 100]
+    private static int[] parseMix(String mix) {
+        int[] weights = new int[Endpoint.values().length];
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            weights[Endpoint.valueOf(pair[0].trim().toUpperCase()).ordinal()] = Integer.parseInt(pair[1].trim());
+        }
+        int[] thresholds = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            thresholds[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("load.mix 비율의 합이 0 입니다: " + mix);
+        }
+        return thresholds;
+    }
+
+    private Account randomAccount() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return accountsByUser.get(random.nextInt(USERS)).get(random.nextInt(ACCOUNTS_PER_USER));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Map<Endpoint, Histogram> newHistograms() {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(3));
+        }
+        return histograms;
+    }
+
+    private static Map<Endpoint, LongAdder> newCounters() {
+        Map<Endpoint, LongAdder> counters = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            counters.put(endpoint, new LongAdder());
+        }
+        return counters;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = new RedisServer(REDIS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.shbank.benchmark;
+
+import com.example.shbank.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 거래 내역 조회 쿼리 비교 (기본 1천만 건, -Dbenchmark.rows 로 변경)
+// 1. 기존 derived query : sender = ? or (recipient = ? and date between ...) - 날짜 조건이 보낸 거래에 적용되지 않음
+// 2. 괄호만 고친 OR      : (sender = ? or recipient = ?) and date between ... - 인덱스 범위 조회 불가
+// 3. UNION ALL          : TransactionRepository.findHistoryPageIds - 보낸/받은 거래 인덱스를 각각 범위 조회
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionHistoryQueryBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    private static final int ACCOUNTS = 10_000;
+    private static final int BATCH_ROWS = 100_000; // bench_seq 크기 (10^5)
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final long HOT_ACCOUNT_ID = 1L; // 전체 거래의 약 1% 를 차지하는 가맹점 계좌
+
+    private static final String LEGACY_SQL = """
+            select t.id from transactions t
+            where t.sender_account_id = :accountId
+               or t.recipient_account_id = :accountId
+              and t.transaction_date between :start and :end
+            """;
+
+    private static final String BRACKETED_OR_SQL = """
+            select t.id from transactions t
+            where (t.sender_account_id = :accountId or t.recipient_account_id = :accountId)
+              and t.transaction_date between :start and :end
+            order by t.transaction_date desc, t.id desc
+            limit :limit
+            """;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_bench")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--innodb-buffer-pool-size=2G", "--innodb-flush-log-at-trx-commit=2");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private String unionSql;
+    private MapSqlParameterSource params;
+
+    @BeforeAll
+    void seed() throws Exception {
+        unionSql = TransactionRepository.class
+                .getMethod("findHistoryPageIds", Long.class, String.class, LocalDateTime.class,
+                        LocalDateTime.class, LocalDateTime.class, Long.class, int.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        // ID 는 시퀀스 테이블에서 할당하므로 직접 채운다
+        jdbcTemplate.update("insert into users (id, email, name, password, created_at) values (1, 'bench@example.com', 'bench', 'x', now())");
+        jdbcTemplate.execute("create table bench_seq (n int primary key)");
+        jdbcTemplate.update("""
+                insert into bench_seq (n)
+                select 1 + d1.n + d2.n * 10 + d3.n * 100 + d4.n * 1000 + d5.n * 10000
+                from digits d1, digits d2, digits d3, digits d4, digits d5
+                """.replace("digits", "(select 0 n union all select 1 union all select 2 union all select 3 "
+                + "union all select 4 union all select 5 union all select 6 union all select 7 "
+                + "union all select 8 union all select 9)"));
+
+        jdbcTemplate.update("""
+                insert into accounts (id, user_id, account_number, account_name, balance, auth_password, status, type, version, created_at)
+                select n, 1, concat('1234-', lpad(n, 10, '0')), concat('account-', n), 0, 'x', 'ACTIVE', 'CHECKING', 0, now()
+                from bench_seq where n <= ?
+                """, ACCOUNTS);
+
+        long started = System.nanoTime();
+        for (int loaded = 0; loaded < ROWS; loaded += BATCH_ROWS) {
+            jdbcTemplate.update("""
+                    insert into transactions (id, sender_account_id, recipient_account_id, amount, balance, type, status, transaction_date)
+                    select ? + n,
+                           case when rand() < 0.005 then 1 else 1 + floor(rand() * ?) end,
+                           case when rand() < 0.005 then 1 else 1 + floor(rand() * ?) end,
+                           1 + floor(rand() * 100000),
+                           0,
+                           if(n % 2 = 0, 'TRANSFER_IN', 'TRANSFER_OUT'),
+                           'COMPLETED',
+                           now() - interval floor(rand() * 365 * 24 * 3600) second
+                    from bench_seq where n <= ?
+                    """, loaded, ACCOUNTS, ACCOUNTS, Math.min(BATCH_ROWS, ROWS - loaded));
+        }
+        jdbcTemplate.execute("analyze table transactions");
+        System.out.printf("%n[seed] %,d transactions in %,d ms%n", ROWS, (System.nanoTime() - started) / 1_000_000);
+
+        LocalDateTime end = LocalDateTime.now();
+        params = new MapSqlParameterSource()
+                .addValue("accountId", HOT_ACCOUNT_ID)
+                .addValue("type", null)
+                .addValue("start", end.minusDays(7))
+                .addValue("end", end)
+                .addValue("cursorDate", null)
+                .addValue("cursorId", null)
+                .addValue("limit", PAGE_SIZE);
+    }
+
+    @Test
+    void compareHistoryQueries() {
+        List<Long> unionIds = namedJdbcTemplate.queryForList(unionSql, params, Long.class);
+        List<Long> bracketedIds = namedJdbcTemplate.queryForList(BRACKETED_OR_SQL, params, Long.class);
+        assertThat(unionIds).isEqualTo(bracketedIds);
+
+        System.out.printf("%n%-14s %10s %10s %10s%n", "query", "rows", "p50(ms)", "p95(ms)");
+        report("legacy-or", () -> namedJdbcTemplate.queryForList(LEGACY_SQL, params, Long.class));
+        report("bracketed-or", () -> namedJdbcTemplate.queryForList(BRACKETED_OR_SQL, params, Long.class));
+        report("union-all", () -> namedJdbcTemplate.queryForList(unionSql, params, Long.class));
+
+        explain("legacy-or", LEGACY_SQL);
+        explain("bracketed-or", BRACKETED_OR_SQL);
+        explain("union-all", unionSql);
+    }
+
+    private void report(String name, Supplier<List<Long>> query) {
+        int rows = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            rows = query.get().size();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            query.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(elapsed);
+
+        System.out.printf("%-14s %,10d %10.2f %10.2f%n", name, rows,
+                elapsed[ITERATIONS / 2] / 1e6, elapsed[(int) (ITERATIONS * 0.95)] / 1e6);
+    }
+
+    private void explain(String name, String sql) {
+        System.out.printf("%n[explain] %s%n", name);
+        List<Map<String, Object>> plan = new ArrayList<>(namedJdbcTemplate.queryForList("explain " + sql, params));
+        for (Map<String, Object> row : plan) {
+            System.out.printf("  table=%s type=%s key=%s rows=%s extra=%s%n",
+                    row.get("table"), row.get("type"), row.get("key"), row.get("rows"), row.get("Extra"));
+        }
+    }
+}
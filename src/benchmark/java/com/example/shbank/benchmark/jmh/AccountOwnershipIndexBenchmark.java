@@ -0,0 +1,64 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.util.LongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 계좌 ID -> 소유자 ID 조회 (AccountOwnershipIndex 의 맵)
+// 박싱 없는 LongLongHashMap 과 HashMap<Long, Long> 을 같은 무작위 ID 순서로 비교 (조회 1024 번 단위)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AccountOwnershipIndexBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"100000", "1000000"})
+    public int accounts;
+
+    private LongLongHashMap primitive;
+    private Map<Long, Long> boxed;
+    private long[] lookupIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        primitive = new LongLongHashMap(accounts);
+        boxed = new HashMap<>();
+        for (long id = 1; id <= accounts; id++) {
+            primitive.put(id, id % 1000 + 1);
+            boxed.put(id, id % 1000 + 1);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        lookupIds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupIds[i] = random.nextLong(1, accounts + 1);
+        }
+    }
+
+    @Benchmark
+    public void primitive(Blackhole blackhole) {
+        for (long id : lookupIds) {
+            blackhole.consume(primitive.get(id, -1L));
+        }
+    }
+
+    @Benchmark
+    public void boxed(Blackhole blackhole) {
+        for (long id : lookupIds) {
+            blackhole.consume(boxed.get(id));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.mapper.AccountMapper;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.service.AccountMetadataCache;
+import com.example.shbank.service.AccountOwnershipIndex;
+import com.example.shbank.service.AccountService;
+import com.example.shbank.service.LedgerService;
+import jakarta.persistence.EntityManager;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 계좌 비밀번호 확인 (AccountService.verifyAuthPassword, SecurityConfig 와 같은 BCrypt 기본 강도)
+// 조회는 목으로 대신하므로 대부분 BCrypt 비용이다
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AccountPasswordBenchmark {
+
+    private static final String PASSWORD = "1234";
+
+    private AccountService accountService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        Account account = BenchmarkFixtures.account(1L, BenchmarkFixtures.user(1L), passwordEncoder.encode(PASSWORD));
+
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        accountService = new AccountService(accountRepository, Mappers.getMapper(AccountMapper.class),
+                passwordEncoder, mock(EntityManager.class), mock(AccountMetadataCache.class),
+                mock(AccountOwnershipIndex.class), mock(LedgerService.class));
+    }
+
+    @Benchmark
+    public boolean verifyMatching() {
+        return accountService.verifyAuthPassword(1L, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyMismatching() {
+        try {
+            return accountService.verifyAuthPassword(1L, "0000");
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+}
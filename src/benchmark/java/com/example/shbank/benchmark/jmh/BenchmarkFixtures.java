@@ -0,0 +1,68 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.util.JWTUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 벤치마크에서 공통으로 쓰는 객체 (스프링 컨텍스트 없이 생성)
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "YmVzaWRld2hpc3RsZXBsdXJhbGNoZWNrZnV0dXJlYmFieWxha2ViZWdhbmdyZWF0bHk=";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JWTUtil jwtUtil(long verifiedCacheSize) {
+        JWTUtil jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenValidity", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenValidity", TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .email("bench" + id + "@example.com")
+                .name("벤치" + id)
+                .password("x")
+                .build();
+    }
+
+    static Account account(long id, User owner, String authPassword) {
+        return Account.builder()
+                .id(id)
+                .user(owner)
+                .accountNumber(Account.accountNumberOf(id))
+                .accountName("계좌 " + id)
+                .balance(1_000_000L)
+                .transferLimit(5_000_000L)
+                .authPassword(authPassword)
+                .type(AccountType.CHECKING)
+                .version(0L)
+                .build();
+    }
+
+    static Transaction transfer(long id, Account sender, Account recipient, TransactionType type) {
+        return Transaction.builder()
+                .id(id)
+                .senderAccount(sender)
+                .recipientAccount(recipient)
+                .amount(1_000L)
+                .balance(500_000L)
+                .type(type)
+                .status(TransactionStatus.COMPLETED)
+                .transactionDate(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id))
+                .build();
+    }
+}
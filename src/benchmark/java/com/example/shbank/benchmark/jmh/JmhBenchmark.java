@@ -0,0 +1,36 @@
+package com.example.shbank.benchmark.jmh;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+
+// 이 패키지의 JMH 마이크로 벤치마크 실행
+// mvn -Pbenchmark test -Dtest=JmhBenchmark
+//   -Djmh.include=Jwt         : 이름에 Jwt 가 들어간 벤치마크만 (정규식)
+//   -Djmh.result=파일경로      : 결과 JSON 위치 (기본 target/jmh-result.json, 릴리스마다 보관해 비교)
+//   -Djmh.forks, -Djmh.warmup, -Djmh.iterations : 포크 수, 워밍업/측정 반복 수 (각 1초)
+class JmhBenchmark {
+
+    @Test
+    void run() throws RunnerException {
+        String include = System.getProperty("jmh.include", "");
+        File result = new File(System.getProperty("jmh.result", "target/jmh-result.json"));
+        result.getAbsoluteFile().getParentFile().mkdirs();
+
+        new Runner(new OptionsBuilder()
+                .include(getClass().getPackageName() + ".*" + include + ".*")
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmup", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.util.MappedJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 거래 저널(MappedJournal) 처음부터 다시 읽기 (TransactionJournal 과 같은 48바이트 본문, 레코드 56바이트)
+// 한 번 읽을 때마다 금액 합계를 내므로 records x 56 바이트 / 걸린 시간 = 읽기 속도
+// 파일이 페이지 캐시에 올라와 있는 상태의 속도 (디스크에서 처음 읽는 속도가 아니다)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JournalReplayBenchmark {
+
+    private static final int PAYLOAD_SIZE = 48;
+
+    @Param({"1000000", "5000000"})
+    public int records;
+
+    private Path directory;
+    private MappedJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = new MappedJournal(directory, PAYLOAD_SIZE, 64 * 1024 * 1024);
+        for (long i = 1; i <= records; i++) {
+            long id = i;
+            journal.append(buffer -> {
+                buffer.putLong(id).putLong(id % 1000 + 1).putLong(id % 997 + 1).putLong(id % 50_000)
+                        .putLong(1_700_000_000_000L + id).put((byte) 1).put((byte) 1);
+                buffer.position(buffer.position() + PAYLOAD_SIZE - 42);
+            });
+        }
+        journal.force();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long replaySumAmounts() {
+        long[] total = new long[1];
+        journal.replay(buffer -> total[0] += buffer.getLong(buffer.position() + 24));
+        return total[0];
+    }
+}
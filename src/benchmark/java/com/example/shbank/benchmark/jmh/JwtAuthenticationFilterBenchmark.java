@@ -0,0 +1,69 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.security.JwtAuthenticationFilter;
+import com.example.shbank.util.JWTUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// JWT 인증 필터 한 번 통과하는 비용 (요청당 평균 시간)
+// 1. legacy   : 예전 방식 재현 - 요청마다 파서를 새로 만들어 서명을 세 번 검증
+// 2. filter   : cacheSize=0 이면 캐시 없이 한 번 검증, 10000 이면 같은 토큰은 캐시에서
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private Key key;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JWTUtil jwtUtil = BenchmarkFixtures.jwtUtil(cacheSize);
+
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkFixtures.JWT_SECRET));
+        token = jwtUtil.generateAccessToken(1L, "bench@example.com");
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody());
+        }
+    }
+}
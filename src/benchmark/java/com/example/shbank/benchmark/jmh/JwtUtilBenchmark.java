@@ -0,0 +1,50 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.util.JWTUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JWTUtil 토큰 발급 / 검증 (cacheSize=0 이면 매번 서명 검증)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JWTUtil jwtUtil;
+    private String accessToken;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(cacheSize);
+        accessToken = jwtUtil.generateAccessToken(1L, "bench@example.com");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(++userId, "bench@example.com");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(++userId);
+    }
+
+    @Benchmark
+    public Optional<JWTUtil.VerifiedToken> authenticate() {
+        return jwtUtil.authenticate(accessToken);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.dto.account.AccountCreateResponse;
+import com.example.shbank.dto.account.AccountResponse;
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.mapper.AccountMapper;
+import com.example.shbank.mapper.TransactionMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// 응답 변환 (MapStruct 매퍼)과 계좌번호 생성
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
+    private final TransactionMapper transactionMapper = Mappers.getMapper(TransactionMapper.class);
+
+    private Account account;
+    private Transaction transaction;
+    private AccountSummary senderSummary;
+    private AccountSummary recipientSummary;
+    private long accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User owner = BenchmarkFixtures.user(1L);
+        account = BenchmarkFixtures.account(1L, owner, "x");
+        Account recipient = BenchmarkFixtures.account(2L, owner, "x");
+        transaction = BenchmarkFixtures.transfer(1L, account, recipient, TransactionType.TRANSFER_OUT);
+        senderSummary = summary(account);
+        recipientSummary = summary(recipient);
+    }
+
+    @Benchmark
+    public AccountResponse accountToDto() {
+        return accountMapper.toDto(account);
+    }
+
+    @Benchmark
+    public AccountCreateResponse accountToCreateDto() {
+        return accountMapper.toCreateDto(account);
+    }
+
+    @Benchmark
+    public TransactionResponse transactionToResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+
+    @Benchmark
+    public TransactionResponse transactionToResponseWithSummaries() {
+        return transactionMapper.toResponse(transaction, senderSummary, recipientSummary);
+    }
+
+    @Benchmark
+    public String accountNumberOf() {
+        return Account.accountNumberOf(++accountId);
+    }
+
+    private static AccountSummary summary(Account account) {
+        return new AccountSummary() {
+            @Override
+            public Long getId() {
+                return account.getId();
+            }
+
+            @Override
+            public String getAccountNumber() {
+                return account.getAccountNumber();
+            }
+
+            @Override
+            public String getAccountName() {
+                return account.getAccountName();
+            }
+
+            @Override
+            public Long getUserId() {
+                return account.getUser().getId();
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.shbank.benchmark.jmh;
+
+import com.example.shbank.dto.transaction.TransactionHistoryResponse;
+import com.example.shbank.dto.transaction.TransactionTypeTotal;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.mapper.TransactionMapper;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.ArchivedTransactionRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.service.AccountLocker;
+import com.example.shbank.service.AccountMetadataCache;
+import com.example.shbank.service.AccountOwnershipIndex;
+import com.example.shbank.service.DailyAccountStatsService;
+import com.example.shbank.service.LedgerService;
+import com.example.shbank.service.ScheduledTransferWheel;
+import com.example.shbank.service.TransactionMetrics;
+import com.example.shbank.service.TransactionArchiver;
+import com.example.shbank.service.TransactionService;
+import com.example.shbank.service.TransferEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 거래 내역 응답 조립 (TransactionService.getTransactionHistory 의 DB 이후 구간)
+// 저장소는 목으로 대신하고, 페이지 자르기 / 커서 / 응답 변환 / 유형별 합계를 측정한다
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TransactionHistoryAggregationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long ACCOUNT_ID = 1L;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User owner = BenchmarkFixtures.user(USER_ID);
+        Account account = BenchmarkFixtures.account(ACCOUNT_ID, owner, "x");
+        Account counterpart = BenchmarkFixtures.account(2L, owner, "x");
+
+        // 다음 페이지가 있는 경우 (한 건 더 조회됨)
+        List<Long> ids = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        for (long id = pageSize + 1; id >= 1; id--) {
+            ids.add(id);
+            transactions.add(id % 2 == 0
+                    ? BenchmarkFixtures.transfer(id, account, counterpart, TransactionType.TRANSFER_OUT)
+                    : BenchmarkFixtures.transfer(id, counterpart, account, TransactionType.TRANSFER_IN));
+        }
+
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findUserIdById(ACCOUNT_ID)).thenReturn(Optional.of(USER_ID));
+        when(transactionRepository.findHistoryPageIds(ACCOUNT_ID, null, null, null, null, null, pageSize + 1))
+                .thenReturn(ids);
+        when(transactionRepository.findAllWithAccountsByIdIn(ids)).thenReturn(transactions);
+        when(transactionRepository.sumAmountByType(ACCOUNT_ID, null, null, null)).thenReturn(List.of(
+                total(TransactionType.TRANSFER_IN, 1_250_000L),
+                total(TransactionType.TRANSFER_OUT, 830_000L)));
+
+        transactionService = new TransactionService(transactionRepository, accountRepository,
+                Mappers.getMapper(TransactionMapper.class), mock(AccountLocker.class),
+                mock(ScheduledTransferWheel.class), new TransactionMetrics(new SimpleMeterRegistry(), 100),
+                mock(AccountMetadataCache.class),
+                new AccountOwnershipIndex(accountRepository, new SimpleMeterRegistry(), 16, 1_000),
+                mock(LedgerService.class), mock(TransferEngine.class), mock(PlatformTransactionManager.class),
+                mock(TransactionArchiver.class), mock(ArchivedTransactionRepository.class),
+                mock(DailyAccountStatsService.class));
+    }
+
+    @Benchmark
+    public TransactionHistoryResponse firstPage() {
+        return transactionService.getTransactionHistory(ACCOUNT_ID, USER_ID, null, null, null, null, pageSize);
+    }
+
+    private static TransactionTypeTotal total(TransactionType type, long total) {
+        return new TransactionTypeTotal() {
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
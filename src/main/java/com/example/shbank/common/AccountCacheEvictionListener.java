@@ -0,0 +1,27 @@
+package com.example.shbank.common;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.service.AccountMetadataCache;
+import com.example.shbank.service.AccountOwnershipIndex;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+
+// 계좌가 삭제되면 AccountMetadataCache, AccountOwnershipIndex 에서도 지운다
+// (스프링이 생성, 캐시는 순환 참조를 피해 필요할 때 꺼낸다)
+public class AccountCacheEvictionListener {
+
+    private final ObjectProvider<AccountMetadataCache> accountMetadataCache;
+    private final ObjectProvider<AccountOwnershipIndex> accountOwnershipIndex;
+
+    public AccountCacheEvictionListener(ObjectProvider<AccountMetadataCache> accountMetadataCache,
+                                        ObjectProvider<AccountOwnershipIndex> accountOwnershipIndex) {
+        this.accountMetadataCache = accountMetadataCache;
+        this.accountOwnershipIndex = accountOwnershipIndex;
+    }
+
+    @PostRemove
+    public void evict(Account account) {
+        accountMetadataCache.ifAvailable(cache -> cache.evictAfterCommit(account.getId(), account.getAccountNumber()));
+        accountOwnershipIndex.ifAvailable(index -> index.removeAfterCommit(account.getId()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.shbank.common;
+
+import com.example.shbank.entity.Account;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+// 계좌번호 생성 (INSERT 직전, persist 때 미리 할당된 계좌 ID 로 만든다)
+// 계좌번호를 직접 지정한 경우에는 그대로 둔다.
+public class AccountNumberGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return currentValue != null ? currentValue : Account.accountNumberOf(((Account) owner).getId());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.shbank.common;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 계좌 ID 로 계좌번호를 채운다 (AccountNumberGenerator)
+@ValueGenerationType(generatedBy = AccountNumberGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedAccountNumber {
+}
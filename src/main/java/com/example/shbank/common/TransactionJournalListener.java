@@ -0,0 +1,29 @@
+package com.example.shbank.common;
+
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.service.TransactionJournal;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+// 정산된 상태로 저장된 거래를 커밋 후 TransactionJournal 에 기록한다
+// (예약 송금은 상태를 UPDATE 문으로 바꾸므로 ScheduledTransferExecutor 가 직접 기록한다)
+public class TransactionJournalListener {
+
+    private final ObjectProvider<TransactionJournal> transactionJournal;
+
+    public TransactionJournalListener(ObjectProvider<TransactionJournal> transactionJournal) {
+        this.transactionJournal = transactionJournal;
+    }
+
+    @PostPersist
+    public void journal(Transaction transaction) {
+        if (transaction.getStatus() == TransactionStatus.COMPLETED) {
+            transactionJournal.ifAvailable(journal -> {
+                if (journal.isEnabled()) {
+                    journal.appendAfterCommit(TransactionJournal.entryOf(transaction));
+                }
+            });
+        }
+    }
+}
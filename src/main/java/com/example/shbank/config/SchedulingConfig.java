@@ -0,0 +1,12 @@
+package com.example.shbank.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 예약 송금 실행기 등 주기 작업 (scheduled-transfer.enabled=false 면 끈다)
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduled-transfer.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
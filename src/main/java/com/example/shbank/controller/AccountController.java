@@ -5,7 +5,6 @@ import com.example.shbank.dto.account.AccountCreateResponse;
 import com.example.shbank.dto.account.AccountResponse;
 import com.example.shbank.dto.account.AccountSettingRequest;
 import com.example.shbank.dto.verify.VerifyPasswordRequest;
-import com.example.shbank.entity.Account;
 import com.example.shbank.security.CustomUserDetails;
 import com.example.shbank.service.AccountService;
 import jakarta.validation.Valid;
@@ -47,16 +46,7 @@ public class AccountController {
     // 계좌 번호 조회
     @GetMapping("/{accountNumber}")
     public ResponseEntity<AccountResponse> getAccountByAccountNumber(@PathVariable String accountNumber) {
-        Account account = accountService.getAccountByAccountNumber(accountNumber);
-
-        AccountResponse response = new AccountResponse(
-                account.getId(),
-                account.getAccountName(),
-                account.getAccountNumber(),
-                account.getBalance(),
-                account.getType().name(),
-                account.getTransferLimit()
-        );
+        AccountResponse response = accountService.getAccountByAccountNumber(accountNumber);
 
         return ResponseEntity.ok(response);
     }
@@ -74,10 +64,10 @@ public class AccountController {
 
     // 계좌 설정 조회
     @GetMapping("/{accountId}/settings")
-    public ResponseEntity<Integer> getTransferLimit(@PathVariable Long accountId,
+    public ResponseEntity<Long> getTransferLimit(@PathVariable Long accountId,
                                     Authentication authentication) {
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
-        Integer limit = accountService.getTransferLimit(accountId, userId);
+        Long limit = accountService.getTransferLimit(accountId, userId);
         return ResponseEntity.ok(limit);
     }
 
@@ -1,19 +1,37 @@
 package com.example.shbank.controller;
 
+import com.example.shbank.dto.transaction.AsyncTransferResponse;
+import com.example.shbank.dto.transaction.BulkTransferRequest;
+import com.example.shbank.dto.transaction.BulkTransferResponse;
 import com.example.shbank.dto.transaction.ScheduledTransferResponse;
 import com.example.shbank.dto.transaction.TransactionHistoryResponse;
 import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.dto.transaction.TransactionStatsResponse;
+import com.example.shbank.enums.StatsPeriod;
 import com.example.shbank.enums.TransactionType;
 import com.example.shbank.security.CustomUserDetails;
+import com.example.shbank.service.AsyncTransferService;
+import com.example.shbank.service.BulkTransferService;
+import com.example.shbank.service.IdempotencyService;
 import com.example.shbank.service.TransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -21,6 +39,10 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final BulkTransferService bulkTransferService;
+    private final AsyncTransferService asyncTransferService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
     // 거래 내역 조회
     @GetMapping("/{accountId}")
@@ -29,14 +51,67 @@ public class TransactionController {
             @RequestParam(required = false) TransactionType type,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean summaryOnly,
             Authentication authentication) {
 
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
 
-        TransactionHistoryResponse response = transactionService.getTransactionHistory(accountId, userId, type, start, end);
+        // summaryOnly 면 거래 목록 없이 합계만 반환
+        TransactionHistoryResponse response = summaryOnly
+                ? transactionService.getTransactionSummary(accountId, userId, type, start, end)
+                : transactionService.getTransactionHistory(accountId, userId, type, start, end, cursor, size);
         return ResponseEntity.ok(response);
     }
 
+    // 거래 내역 스트리밍 조회 (JSON 배열을 행 단위로 바로 내려보냄)
+    @GetMapping("/{accountId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamTransactionHistory(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            Authentication authentication) {
+
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+
+        // 응답이 시작되면 상태 코드를 바꿀 수 없으므로 권한은 미리 확인
+        transactionService.checkAccountOwner(accountId, userId);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                transactionService.streamTransactionHistory(accountId, userId, type, start, end, tx -> {
+                    try {
+                        generator.writeObject(tx);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 기간별 입출금 통계 (일별 집계에서 DAY/MONTH/YEAR 단위로 묶음, from/to 는 날짜 포함)
+    @GetMapping("/{accountId}/stats")
+    public ResponseEntity<List<TransactionStatsResponse>> getTransactionStats(
+            @PathVariable Long accountId,
+            @RequestParam(defaultValue = "MONTH") StatsPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+
+        return ResponseEntity.ok(transactionService.getTransactionStats(accountId, userId, period, from, to));
+    }
+
     // 예약 송금 목록 조회
     @GetMapping("/{accountId}/scheduled")
     public ResponseEntity<List<ScheduledTransferResponse>> getScheduledTransfers(
@@ -49,20 +124,76 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
-    // 즉시/예약 송금
+    // 즉시/예약 송금 (Idempotency-Key 가 같으면 첫 응답을 그대로 반환)
     @PostMapping("/transfer")
     public ResponseEntity<TransactionResponse> transfer(
             @RequestParam Long senderAccountId,
             @RequestParam String recipientAccountNumber,
-            @RequestParam Integer amount,
+            @RequestParam Long amount,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime scheduleDate,
             @RequestParam(required = false) String memo,
             @RequestParam TransactionType type,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            Authentication authentication) {
+
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+
+        String request = String.join("|", "transfer", String.valueOf(senderAccountId), recipientAccountNumber,
+                String.valueOf(amount), String.valueOf(scheduleDate), String.valueOf(memo), String.valueOf(type));
+        TransactionResponse response = idempotencyService.execute(userId, idempotencyKey, request,
+                () -> transactionService.transfer(senderAccountId, recipientAccountNumber, amount, scheduleDate, memo, type, userId));
+        return ResponseEntity.ok(response);
+    }
+
+    // 비동기 송금 접수 (검증 후 바로 요청 ID 반환, 정산은 뒤에서 묶어 처리, Idempotency-Key 가 같으면 첫 응답을 그대로 반환)
+    // Redis 장애로 접수하지 못하면 바로 처리해 COMPLETED 로 반환
+    // (Idempotency-Key 가 있으면 키를 커밋한 뒤 스트림에 넣으므로, 그때 넣지 못한 요청은 FAILED 상태로 남는다)
+    @PostMapping("/transfer/async")
+    public ResponseEntity<AsyncTransferResponse> transferAsync(
+            @RequestParam Long senderAccountId,
+            @RequestParam String recipientAccountNumber,
+            @RequestParam Long amount,
+            @RequestParam TransactionType type,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            Authentication authentication) {
+
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+
+        String request = String.join("|", "transfer-async", String.valueOf(senderAccountId), recipientAccountNumber,
+                String.valueOf(amount), String.valueOf(type));
+        AsyncTransferResponse response = idempotencyService.execute(userId, idempotencyKey, request,
+                AsyncTransferResponse.class,
+                () -> asyncTransferService.submit(senderAccountId, recipientAccountNumber, amount, type, userId));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    // 비동기 송금 상태 조회 (PENDING 이면 잠시 후 다시 조회)
+    @GetMapping("/transfer/async/{requestId}")
+    public ResponseEntity<AsyncTransferResponse> getAsyncTransfer(
+            @PathVariable String requestId,
+            Authentication authentication) {
+
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+
+        return ResponseEntity.ok(asyncTransferService.getStatus(requestId, userId));
+    }
+
+    // 일괄 이체 (한 계좌에서 여러 계좌로, 항목별 결과 반환, Idempotency-Key 가 같으면 첫 응답을 그대로 반환)
+    @PostMapping("/transfer/bulk")
+    public ResponseEntity<BulkTransferResponse> bulkTransfer(
+            @RequestBody @Valid BulkTransferRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Authentication authentication) {
 
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
 
-        TransactionResponse response = transactionService.transfer(senderAccountId, recipientAccountNumber, amount, scheduleDate, memo, type, userId);
+        String items = request.getTransfers().stream()
+                .map(item -> item.getRecipientAccountNumber() + ":" + item.getAmount())
+                .collect(Collectors.joining(","));
+        String requestKey = String.join("|", "bulk-transfer", String.valueOf(request.getSenderAccountId()),
+                String.valueOf(request.getMode()), items);
+        BulkTransferResponse response = idempotencyService.execute(userId, idempotencyKey, requestKey,
+                BulkTransferResponse.class, () -> bulkTransferService.transfer(request, userId));
         return ResponseEntity.ok(response);
     }
 
@@ -78,17 +209,20 @@ public class TransactionController {
         return ResponseEntity.ok().build();
     }
 
-    // 카드 결제
+    // 카드 결제 (Idempotency-Key 가 같으면 첫 응답을 그대로 반환)
     @PostMapping("/card-payment")
     public ResponseEntity<TransactionResponse> cardPayment(
             @RequestParam Long accountId,
-            @RequestParam Integer amount,
+            @RequestParam Long amount,
             @RequestParam String merchantName,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Authentication authentication) {
 
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
 
-        TransactionResponse response = transactionService.cardPayment(accountId, amount, merchantName);
+        String request = String.join("|", "card-payment", String.valueOf(accountId), String.valueOf(amount), merchantName);
+        TransactionResponse response = idempotencyService.execute(userId, idempotencyKey, request,
+                () -> transactionService.cardPayment(accountId, amount, merchantName));
         return ResponseEntity.ok(response);
     }
 }
@@ -24,11 +24,11 @@ public class AccountCreateRequest {
 
     @NotNull
     @Min(0)
-    private Integer initialAmount;
+    private Long initialAmount;
 
     @NotNull
     @Min(0)
-    private Integer transferLimit;
+    private Long transferLimit;
 
     @NotNull
     @Pattern(regexp = "\\d{6}", message = "6자리 숫자여야 합니다.")
@@ -15,6 +15,6 @@ public class AccountCreateResponse {
     private String accountName;
     private String accountNumber;
     private String accountType;
-    private Integer balance;
-    private Integer transferLimit;
+    private Long balance;
+    private Long transferLimit;
 }
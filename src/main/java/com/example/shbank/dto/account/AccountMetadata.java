@@ -0,0 +1,18 @@
+package com.example.shbank.dto.account;
+
+import com.example.shbank.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+// 거의 바뀌지 않는 계좌 정보 (AccountMetadataCache 에 캐시, 잔액은 넣지 않는다)
+public class AccountMetadata implements AccountSummary {
+    private Long id;
+    private String accountNumber;
+    private String accountName;
+    private AccountType type;
+    private Long userId;
+}
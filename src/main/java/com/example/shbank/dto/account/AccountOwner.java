@@ -0,0 +1,12 @@
+package com.example.shbank.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 계좌 ID 와 소유자 ID (AccountOwnershipIndex 적재용)
+public class AccountOwner {
+    private Long accountId;
+    private Long userId;
+}
@@ -14,7 +14,7 @@ public class AccountResponse {
     private Long accountId;
     private String accountName;
     private String accountNumber;
-    private Integer balance;
+    private Long balance;
     private String accountType;
-    private Integer transferLimit;
+    private Long transferLimit;
 }
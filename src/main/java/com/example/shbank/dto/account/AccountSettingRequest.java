@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 public class AccountSettingRequest {
-    private Integer transferLimit;
+    private Long transferLimit;
     private AuthPassword authPassword;
 
     @Data
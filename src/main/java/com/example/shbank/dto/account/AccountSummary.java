@@ -0,0 +1,12 @@
+package com.example.shbank.dto.account;
+
+// 계좌 기본 정보 (AccountRepository projection, 잔액 제외)
+public interface AccountSummary {
+    Long getId();
+
+    String getAccountNumber();
+
+    String getAccountName();
+
+    Long getUserId();
+}
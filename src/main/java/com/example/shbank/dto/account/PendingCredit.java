@@ -0,0 +1,8 @@
+package com.example.shbank.dto.account;
+
+// 계좌별 스냅샷에 아직 반영되지 않은 입금 합계 (LedgerEntryRepository 집계 쿼리 projection)
+public interface PendingCredit {
+    Long getAccountId();
+
+    Long getAmount();
+}
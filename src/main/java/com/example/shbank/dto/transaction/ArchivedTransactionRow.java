@@ -0,0 +1,18 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.TransactionType;
+
+import java.time.LocalDateTime;
+
+// 보관된 거래 내역 한 건 (계좌 이름/번호를 조인해 한 번에 조회하는 projection)
+public interface ArchivedTransactionRow {
+    Long getId();
+    String getSenderName();
+    String getSenderAccount();
+    String getRecipientName();
+    String getRecipientAccount();
+    TransactionType getType();
+    Long getAmount();
+    Long getBalance();
+    LocalDateTime getTransactionDate();
+}
@@ -0,0 +1,20 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.AsyncTransferState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 비동기 이체 접수/상태 조회 응답
+public class AsyncTransferResponse {
+    private String requestId;               // 상태 조회용 요청 ID (Redis 장애로 바로 처리했으면 null)
+    private Long userId;
+    private AsyncTransferState state;
+    private TransactionResponse transaction; // COMPLETED 일 때만
+    private String reason;                   // FAILED 일 때만
+}
@@ -0,0 +1,41 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.BulkTransferMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 일괄 이체 요청 (급여, 가맹점 정산 등 한 계좌에서 여러 계좌로)
+public class BulkTransferRequest {
+    @NotNull
+    private Long senderAccountId;
+
+    private BulkTransferMode mode; // null 이면 transfer.bulk.default-mode
+
+    @NotEmpty
+    @Valid
+    private List<Item> transfers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @NotBlank
+        private String recipientAccountNumber;
+
+        @NotNull
+        private Long amount;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.BulkTransferMode;
+import com.example.shbank.enums.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 일괄 이체 응답 (항목별 결과는 요청 순서대로)
+public class BulkTransferResponse {
+    private Long senderAccountId;
+    private BulkTransferMode mode;
+    private int completedCount;
+    private int failedCount;
+    private Long totalAmount; // 처리된 항목 금액 합계
+    private Long balance;     // 처리 후 보내는 계좌 잔액
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private int index;
+        private String recipientAccountNumber;
+        private Long amount;
+        private TransactionStatus status; // COMPLETED 또는 FAILED
+        private Long transactionId;       // 처리된 항목만
+        private String reason;            // 실패한 항목만
+    }
+}
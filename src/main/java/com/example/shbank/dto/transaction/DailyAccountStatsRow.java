@@ -0,0 +1,14 @@
+package com.example.shbank.dto.transaction;
+
+import java.time.LocalDate;
+
+// 계좌의 하루 입출금 집계 (DailyAccountStatsRepository 집계 쿼리 projection)
+public interface DailyAccountStatsRow {
+    LocalDate getStatsDate();
+
+    Long getTotalIn();
+
+    Long getTotalOut();
+
+    Long getTransactionCount();
+}
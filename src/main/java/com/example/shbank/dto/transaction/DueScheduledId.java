@@ -0,0 +1,9 @@
+package com.example.shbank.dto.transaction;
+
+import java.time.LocalDateTime;
+
+// 실행 시각이 된 예약 송금 ID 와 예약 시각 (다음 배치를 이어서 고르는 keyset)
+public interface DueScheduledId {
+    Long getId();
+    LocalDateTime getScheduleDate();
+}
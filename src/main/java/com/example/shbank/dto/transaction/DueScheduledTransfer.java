@@ -0,0 +1,17 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.AccountStatus;
+import com.example.shbank.enums.TransactionType;
+
+import java.time.LocalDateTime;
+
+// 실행할 예약 송금 (엔티티 로딩 없이 projection)
+public interface DueScheduledTransfer {
+    Long getId();
+    Long getSenderAccountId();
+    Long getRecipientAccountId();
+    Long getAmount();
+    TransactionType getType();
+    LocalDateTime getScheduleDate();
+    AccountStatus getRecipientStatus();
+}
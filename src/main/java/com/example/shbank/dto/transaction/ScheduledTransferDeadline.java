@@ -0,0 +1,9 @@
+package com.example.shbank.dto.transaction;
+
+import java.time.LocalDateTime;
+
+// 예약 송금 실행 시각 (타이밍 휠 적재용 projection)
+public interface ScheduledTransferDeadline {
+    Long getId();
+    LocalDateTime getScheduleDate();
+}
@@ -0,0 +1,37 @@
+package com.example.shbank.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+// 거래 내역 페이지 커서 (transactionDate, transactionId)
+// 클라이언트에는 Base64 문자열로만 노출해서 내부 구조에 의존하지 않도록 한다.
+public class TransactionCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime transactionDate;
+    private final Long transactionId;
+
+    public String encode() {
+        String raw = transactionDate + DELIMITER + transactionId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
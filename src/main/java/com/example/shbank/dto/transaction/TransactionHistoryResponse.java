@@ -10,11 +10,12 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 // 거래 내역 응답
 public class TransactionHistoryResponse {
-    private Integer totalIn;
-    private Integer totalOut;
-    private Integer netChange;
+    private Long totalIn;
+    private Long totalOut;
+    private Long netChange;
     private List<TransactionResponse> transactions;
+    private String nextCursor; // 다음 페이지 커서, 마지막 페이지면 null
 }
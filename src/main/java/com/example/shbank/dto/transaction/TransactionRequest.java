@@ -22,7 +22,7 @@ public class TransactionRequest {
     private String recipientAccountNumber;
 
     @NotNull
-    private Integer amount;
+    private Long amount;
 
     @NotNull
     private TransactionType type;
@@ -19,7 +19,7 @@ public class TransactionResponse {
     private String recipientName;
     private String recipientAccount;
     private String type;
-    private Integer amount;
-    private Integer balance;
+    private Long amount;
+    private Long balance;
     private LocalDateTime transactionDate;
 }
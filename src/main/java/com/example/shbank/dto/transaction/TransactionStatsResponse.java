@@ -0,0 +1,21 @@
+package com.example.shbank.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 기간별 입출금 통계 응답 (기간 하나에 한 건)
+public class TransactionStatsResponse {
+    private LocalDate periodStart; // 기간 첫날 (월별이면 1일, 연별이면 1월 1일)
+    private Long totalIn;
+    private Long totalOut;
+    private Long netChange;
+    private Long transactionCount;
+}
@@ -0,0 +1,10 @@
+package com.example.shbank.dto.transaction;
+
+import com.example.shbank.enums.TransactionType;
+
+// 거래 유형별 합계 (TransactionRepository 집계 쿼리 projection)
+public interface TransactionTypeTotal {
+    TransactionType getType();
+
+    Long getTotal();
+}
@@ -1,6 +1,8 @@
 package com.example.shbank.entity;
 
+import com.example.shbank.common.AccountCacheEvictionListener;
 import com.example.shbank.common.BaseEntity;
+import com.example.shbank.common.GeneratedAccountNumber;
 import com.example.shbank.enums.AccountStatus;
 import com.example.shbank.enums.AccountType;
 import jakarta.persistence.*;
@@ -8,19 +10,24 @@ import lombok.*;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(AccountCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Account extends BaseEntity {
+    // 시퀀스(MySQL 에서는 accounts_seq 테이블)에서 50개씩 미리 받아 두고 persist 때 할당한다.
+    // IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있어서 INSERT 를 JDBC batch 로 묶을 수 있다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @GeneratedAccountNumber
     @Column(nullable = false, unique = true)
     private String accountNumber;
 
@@ -29,10 +36,10 @@ public class Account extends BaseEntity {
 
     @Builder.Default
     @Column(nullable = false)
-    private Integer balance = 0;
+    private Long balance = 0L;
 
     @Column
-    private Integer transferLimit;
+    private Long transferLimit;
 
     @Column(nullable = false)
     private String authPassword;
@@ -46,22 +53,18 @@ public class Account extends BaseEntity {
     @Column(nullable = false)
     private AccountType type;
 
-    public Account assignAccountNumberFromId() {
-        if (!"temp".equals(this.accountNumber)) {
-            throw new IllegalStateException("이미 계좌번호가 설정되었습니다.");
-        }
+    @Version
+    private Long version;
 
-        // ID 기반으로 고유한 계좌 번호 생성
-        long idValue = this.id;
+    // ID 기반으로 고유한 계좌 번호 생성
+    public static String accountNumberOf(long id) {
+        int middle = (int) ((id / 1000000) % 1000);
+        int last = (int) (id % 1000000);
 
-        int middle = (int) ((idValue / 1000000) % 1000);
-        int last = (int) (idValue % 1000000);
-
-        this.accountNumber = String.format("1234-%03d-%06d", middle, last);
-        return this;
+        return String.format("1234-%03d-%06d", middle, last);
     }
 
-    public void updateTransferLimit(Integer transferLimit) {
+    public void updateTransferLimit(Long transferLimit) {
         this.transferLimit = transferLimit;
     }
 
@@ -69,12 +72,13 @@ public class Account extends BaseEntity {
         this.authPassword = authPassword;
     }
 
-    public void deposit(Integer amount) {
+    public void deposit(long amount) {
         this.balance += amount;
     }
 
-    public void withdraw(Integer amount) {
-        if (this.balance < amount) throw new IllegalStateException("잔액 부족");
+    // pendingCredits: 원장에서 아직 스냅샷에 반영되지 않은 입금 합계
+    public void withdraw(long amount, long pendingCredits) {
+        if (this.balance + pendingCredits < amount) throw new IllegalStateException("잔액 부족");
         this.balance -= amount;
     }
 }
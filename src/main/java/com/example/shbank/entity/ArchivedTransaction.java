@@ -0,0 +1,62 @@
+package com.example.shbank.entity;
+
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 거래 (TransactionArchiver 가 transactions 에서 옮긴다, INSERT 만 하는 테이블)
+// 카드 결제 가맹점, 예약 송금 정보도 함께 옮겨 한 행에 둔다.
+// 계좌가 해지/삭제되어도 남아야 하므로 accounts 외래 키는 두지 않는다.
+// 운영 DB 에서는 거래일시 기준 월별 RANGE 파티션으로 만든다 (schema.sql)
+@Entity
+@Table(name = "transactions_archive", indexes = {
+        @Index(name = "idx_transactions_archive_sender_date", columnList = "sender_account_id, transaction_date, id"),
+        @Index(name = "idx_transactions_archive_recipient_date", columnList = "recipient_account_id, transaction_date, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedTransaction {
+    // 원래 거래 ID 그대로
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long senderAccountId;
+
+    @Column
+    private Long recipientAccountId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime transactionDate;
+
+    @Column
+    private String merchantName;
+
+    @Column
+    private LocalDateTime scheduleDate;
+
+    @Column
+    private String memo;
+}
@@ -0,0 +1,48 @@
+package com.example.shbank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 계좌별 하루 입출금 집계 (계좌, 날짜마다 한 행)
+// 거래 합계 조회와 같은 기준으로 센다: 계좌가 보낸/받은 거래를 거래 유형(TRANSFER_IN/OUT)별로 더하고, 상태는 보지 않는다.
+// 거래를 저장할 때는 DailyAccountStatsDelta 에 INSERT 만 하고, DailyAccountStatsService 가 주기적으로 여기에 더한다.
+// 행 갱신은 INSERT ... ON DUPLICATE KEY UPDATE 로만 한다.
+@Entity
+@Table(name = "daily_account_stats")
+@IdClass(DailyAccountStats.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAccountStats {
+    @Id
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate statsDate;
+
+    @Column(nullable = false)
+    private Long totalIn;
+
+    @Column(nullable = false)
+    private Long totalOut;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate statsDate;
+    }
+}
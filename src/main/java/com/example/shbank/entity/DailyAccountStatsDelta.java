@@ -0,0 +1,43 @@
+package com.example.shbank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 아직 일별 집계(daily_account_stats)에 더하지 않은 증분 (INSERT 만 하는 테이블)
+// 거래를 저장하는 트랜잭션에서 함께 INSERT 하므로 집계 행을 잠그지 않는다 (입금이 몰리는 계좌도 기다리지 않는다).
+// 집계 = daily_account_stats + 남아 있는 증분 합계. DailyAccountStatsService 가 주기적으로 더하고 지운다.
+@Entity
+@Table(name = "daily_account_stats_deltas", indexes = {
+        @Index(name = "idx_daily_account_stats_deltas_account", columnList = "account_id, stats_date")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAccountStatsDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_account_stats_deltas_seq")
+    @SequenceGenerator(name = "daily_account_stats_deltas_seq", sequenceName = "daily_account_stats_deltas_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private LocalDate statsDate;
+
+    @Column(nullable = false)
+    private Long amountIn;
+
+    @Column(nullable = false)
+    private Long amountOut;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+}
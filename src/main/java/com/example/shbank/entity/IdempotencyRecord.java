@@ -0,0 +1,34 @@
+package com.example.shbank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 처리한 Idempotency-Key 와 첫 응답 (Redis 에서 빠졌을 때의 기준)
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 150)
+    private String idempotencyKey; // {userId}:{Idempotency-Key}
+
+    @Column(nullable = false, length = 32)
+    private String requestHash;
+
+    @Lob
+    @Column(nullable = false)
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,49 @@
+package com.example.shbank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 입금 원장 (INSERT 만 하는 테이블)
+// 입금은 계좌 행을 갱신하지 않고 원장에 한 행을 넣는다. 계좌 잔액(accounts.balance)은 스냅샷이고
+// 실제 잔액 = 스냅샷 + 아직 반영되지 않은(compacted = false) 원장 합계. LedgerCompactor 가 주기적으로 스냅샷에 반영한다.
+// 입금할 때 계좌 행에 잠금이 걸리지 않도록 accounts 외래 키는 두지 않는다 (InnoDB 는 외래 키 확인 때 부모 행에 공유 잠금을 건다).
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_pending", columnList = "compacted, account_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_seq")
+    @SequenceGenerator(name = "ledger_entries_seq", sequenceName = "ledger_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    // 입금이 생긴 거래 (이체, 예약 송금 실행/환불)
+    @Column
+    private Long transactionId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean compacted = false;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
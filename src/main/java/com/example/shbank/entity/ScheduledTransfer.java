@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scheduled_transfers")
+@Table(name = "scheduled_transfers", indexes = {
+        @Index(name = "idx_scheduled_transfers_date", columnList = "schedule_date")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
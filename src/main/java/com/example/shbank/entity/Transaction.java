@@ -1,21 +1,30 @@
 package com.example.shbank.entity;
 
+import com.example.shbank.common.TransactionJournalListener;
 import com.example.shbank.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_sender_date", columnList = "sender_account_id, transaction_date, id"),
+        @Index(name = "idx_transactions_recipient_date", columnList = "recipient_account_id, transaction_date, id"),
+        @Index(name = "idx_transactions_status", columnList = "status"),
+        @Index(name = "idx_transactions_date", columnList = "transaction_date")
+})
+@EntityListeners({AuditingEntityListener.class, TransactionJournalListener.class})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -27,10 +36,10 @@ public class Transaction {
     private Account recipientAccount;
 
     @Column(nullable = false)
-    private Integer amount;
+    private Long amount;
 
     @Column(nullable = false)
-    private Integer balance;
+    private Long balance;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -54,6 +63,12 @@ public class Transaction {
         this.status = TransactionStatus.CANCELED;
     }
 
+    public void linkScheduledTransfer(ScheduledTransfer scheduledTransfer) {
+        if (this.scheduledTransfer == null) {
+            this.scheduledTransfer = scheduledTransfer;
+        }
+    }
+
     public void linkCardPayment(CardPayment cardPayment) {
         if (this.cardPayment == null) {
             this.cardPayment = cardPayment;
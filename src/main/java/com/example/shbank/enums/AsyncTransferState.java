@@ -0,0 +1,4 @@
+package com.example.shbank.enums;
+
+// 비동기 이체 요청 상태 (PENDING: 접수되어 정산 대기, COMPLETED: 정산 완료, FAILED: 정산 실패)
+public enum AsyncTransferState { PENDING, COMPLETED, FAILED }
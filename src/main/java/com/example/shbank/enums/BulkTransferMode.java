@@ -0,0 +1,4 @@
+package com.example.shbank.enums;
+
+// 일괄 이체 처리 방식 (ALL_OR_NOTHING: 한 건이라도 실패하면 전부 취소, BEST_EFFORT: 가능한 건만 처리)
+public enum BulkTransferMode { ALL_OR_NOTHING, BEST_EFFORT }
@@ -0,0 +1,4 @@
+package com.example.shbank.enums;
+
+// 입출금 통계 묶음 단위 (일별, 월별, 연별)
+public enum StatsPeriod { DAY, MONTH, YEAR }
@@ -1,3 +1,3 @@
 package com.example.shbank.enums;
 
-public enum TransactionStatus { COMPLETED, SCHEDULED, CANCELED }
\ No newline at end of file
+public enum TransactionStatus { COMPLETED, SCHEDULED, CANCELED, FAILED }
\ No newline at end of file
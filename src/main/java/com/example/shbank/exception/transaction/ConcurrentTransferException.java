@@ -0,0 +1,7 @@
+package com.example.shbank.exception.transaction;
+
+public class ConcurrentTransferException extends RuntimeException {
+    public ConcurrentTransferException(String message) {
+        super(message);
+    }
+}
@@ -17,6 +17,7 @@ public interface AccountMapper {
     @Mapping(target = "accountNumber", ignore = true) // 계좌번호는 서비스에서 생성
     @Mapping(target = "user", ignore = true) // 로그인된 유저로 서비스에서 세팅
     @Mapping(target = "authPassword", ignore = true) // 비밀번호는 서비스에서 세팅
+    @Mapping(target = "version", ignore = true) // 낙관적 락 버전은 JPA가 관리
     @Mapping(target = "status", constant = "ACTIVE") // 기본값
     @Mapping(source = "accountType", target = "type") // DTO accountType → 엔티티 type
     @Mapping(source = "initialAmount", target = "balance") // 초기금액 → balance
@@ -1,5 +1,7 @@
 package com.example.shbank.mapper;
 
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.ArchivedTransactionRow;
 import com.example.shbank.dto.transaction.ScheduledTransferResponse;
 import com.example.shbank.dto.transaction.TransactionResponse;
 import com.example.shbank.dto.transaction.TransactionRequest;
@@ -20,6 +22,22 @@ public interface TransactionMapper {
     @Mapping(source = "recipientAccount.accountNumber", target = "recipientAccount")
     TransactionResponse toResponse(Transaction entity);
 
+    // 거래 응답 엔티티 -> DTO 변환 (계좌 정보는 projection 사용, 계좌 엔티티를 로딩하지 않음)
+    @Mapping(source = "entity.id", target = "transactionId")
+    @Mapping(source = "entity.type", target = "type")
+    @Mapping(source = "entity.amount", target = "amount")
+    @Mapping(source = "entity.balance", target = "balance")
+    @Mapping(source = "entity.transactionDate", target = "transactionDate")
+    @Mapping(source = "sender.accountName", target = "senderName")
+    @Mapping(source = "sender.accountNumber", target = "senderAccount")
+    @Mapping(source = "recipient.accountName", target = "recipientName")
+    @Mapping(source = "recipient.accountNumber", target = "recipientAccount")
+    TransactionResponse toResponse(Transaction entity, AccountSummary sender, AccountSummary recipient);
+
+    // 보관된 거래 -> DTO 변환
+    @Mapping(source = "id", target = "transactionId")
+    TransactionResponse toResponse(ArchivedTransactionRow row);
+
     // 예약 송금 응답 엔티티 -> DTO 변환
     @Mapping(source = "transaction.id", target = "transferId")
     @Mapping(source = "transaction.senderAccount.id", target = "accountId")
@@ -1,8 +1,17 @@
 package com.example.shbank.repository;
 
+import com.example.shbank.dto.account.AccountMetadata;
+import com.example.shbank.dto.account.AccountOwner;
 import com.example.shbank.entity.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +24,77 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     // 계좌 번호 조회
     Optional<Account> findByAccountNumber(String accountNumber);
+
+    // 계좌 기본 정보 조회 (엔티티 로딩 없이, 잔액 제외) - AccountMetadataCache 가 캐시 미스 때 사용
+    @Query("""
+            select new com.example.shbank.dto.account.AccountMetadata(a.id, a.accountNumber, a.accountName, a.type, a.user.id)
+            from Account a where a.id = :id
+            """)
+    Optional<AccountMetadata> findMetadataById(@Param("id") Long id);
+
+    @Query("""
+            select new com.example.shbank.dto.account.AccountMetadata(a.id, a.accountNumber, a.accountName, a.type, a.user.id)
+            from Account a where a.accountNumber = :accountNumber
+            """)
+    Optional<AccountMetadata> findMetadataByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 계좌 번호 여러 개를 IN 한 번으로 조회 - 일괄 이체의 받는 계좌 확인용
+    @Query("""
+            select new com.example.shbank.dto.account.AccountMetadata(a.id, a.accountNumber, a.accountName, a.type, a.user.id)
+            from Account a where a.accountNumber in :accountNumbers
+            """)
+    List<AccountMetadata> findMetadataByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 소유자 ID 조회 - AccountOwnershipIndex 에 없는 계좌일 때 사용
+    @Query("select a.user.id from Account a where a.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 계좌 ID 순으로 afterId 다음부터 소유자 조회 - AccountOwnershipIndex 적재용
+    @Query("""
+            select new com.example.shbank.dto.account.AccountOwner(a.id, a.user.id)
+            from Account a where a.id > :afterId order by a.id
+            """)
+    List<AccountOwner> findOwnersAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 1회 이체 한도 조회
+    @Query("select a.transferLimit from Account a where a.id = :id")
+    Long findTransferLimitById(@Param("id") Long id);
+
+    // 잔액 조회 (스냅샷 + 반영되지 않은 입금)
+    @Query("""
+            select a.balance + coalesce((select sum(e.amount) from LedgerEntry e
+                                         where e.accountId = a.id and e.compacted = false), 0)
+            from Account a where a.id = :id
+            """)
+    Long findBalanceById(@Param("id") Long id);
+
+    // 있는 계좌 ID 조회 (잠그지 않음) - 비동기 이체 정산에서 캐시로 찾은 받는 계좌 확인용
+    @Query("select a.id from Account a where a.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 잔액 스냅샷을 잠가 조회 (SELECT ... FOR UPDATE, 계좌가 없으면 empty) - 출금 전 잔액 확인용
+    @Query(nativeQuery = true, value = "select a.balance from accounts a where a.id = :id for update")
+    Optional<Long> lockBalanceById(@Param("id") Long id);
+
+    // 출금 (lockBalanceById 로 잠그고 잔액을 확인한 계좌에서 차감, 반영된 행 수 반환)
+    // 스냅샷은 음수가 될 수 있다 (실제 잔액은 음수가 되지 않는다).
+    // 원장은 이 문장에서 읽지 않는다. DML 안의 서브쿼리는 원장 인덱스에 공유 next-key 잠금을 걸어
+    // 받는 계좌의 입금 INSERT 를 막고, 서로 주고받는 이체끼리 교착된다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Account a
+            set a.balance = a.balance - :amount, a.version = a.version + 1, a.updatedAt = current_timestamp
+            where a.id = :id
+            """)
+    int withdraw(@Param("id") Long id, @Param("amount") long amount);
+
+    // 여러 계좌를 ID 순서로 잠가 조회 (SELECT ... FOR UPDATE) - 비동기 이체 배치 정산, 원장 반영용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :ids order by a.id")
+    List<Account> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 잔액 변경용 계좌 조회 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
 }
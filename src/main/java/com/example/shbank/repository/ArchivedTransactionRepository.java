@@ -0,0 +1,102 @@
+package com.example.shbank.repository;
+
+import com.example.shbank.dto.transaction.ArchivedTransactionRow;
+import com.example.shbank.dto.transaction.TransactionTypeTotal;
+import com.example.shbank.entity.ArchivedTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransaction, Long> {
+    // 보관된 거래 내역 페이지 (keyset, 최신순, TransactionRepository.findHistoryPageIds 와 같은 조건)
+    // 보관 거래는 바뀌지 않으므로 ID 만 먼저 고르지 않고 계좌 이름/번호까지 한 번에 조회한다.
+    @Query(nativeQuery = true, value = """
+            select h.id as id, s.account_name as senderName, s.account_number as senderAccount,
+                   r.account_name as recipientName, r.account_number as recipientAccount,
+                   h.type as type, h.amount as amount, h.balance as balance, h.transaction_date as transactionDate
+            from (
+                (select a.id, a.sender_account_id, a.recipient_account_id, a.type, a.amount, a.balance, a.transaction_date
+                 from transactions_archive a
+                 where a.sender_account_id = :accountId
+                   and (:type is null or a.type = :type)
+                   and (:start is null or a.transaction_date >= :start)
+                   and (:end is null or a.transaction_date <= :end)
+                   and (:cursorDate is null
+                        or a.transaction_date < :cursorDate
+                        or (a.transaction_date = :cursorDate and a.id < :cursorId))
+                 order by a.transaction_date desc, a.id desc
+                 limit :limit)
+                union all
+                (select a.id, a.sender_account_id, a.recipient_account_id, a.type, a.amount, a.balance, a.transaction_date
+                 from transactions_archive a
+                 where a.recipient_account_id = :accountId
+                   and a.sender_account_id <> :accountId
+                   and (:type is null or a.type = :type)
+                   and (:start is null or a.transaction_date >= :start)
+                   and (:end is null or a.transaction_date <= :end)
+                   and (:cursorDate is null
+                        or a.transaction_date < :cursorDate
+                        or (a.transaction_date = :cursorDate and a.id < :cursorId))
+                 order by a.transaction_date desc, a.id desc
+                 limit :limit)
+            ) h
+            left join accounts s on s.id = h.sender_account_id
+            left join accounts r on r.id = h.recipient_account_id
+            order by h.transaction_date desc, h.id desc
+            limit :limit
+            """)
+    List<ArchivedTransactionRow> findHistoryPage(@Param("accountId") Long accountId,
+                                                 @Param("type") String type,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end,
+                                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId,
+                                                 @Param("limit") int limit);
+
+    // 보관된 거래 유형별 합계 (TransactionRepository.sumAmountByType 과 같은 조건)
+    @Query(nativeQuery = true, value = """
+            select h.type as type, sum(h.amount) as total from (
+                select a.type, a.amount from transactions_archive a
+                where a.sender_account_id = :accountId
+                  and (:type is null or a.type = :type)
+                  and (:start is null or a.transaction_date >= :start)
+                  and (:end is null or a.transaction_date <= :end)
+                union all
+                select a.type, a.amount from transactions_archive a
+                where a.recipient_account_id = :accountId
+                  and a.sender_account_id <> :accountId
+                  and (:type is null or a.type = :type)
+                  and (:start is null or a.transaction_date >= :start)
+                  and (:end is null or a.transaction_date <= :end)
+            ) h
+            group by h.type
+            """)
+    List<TransactionTypeTotal> sumAmountByType(@Param("accountId") Long accountId,
+                                               @Param("type") String type,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    // 거래를 카드 결제/예약 송금 정보와 함께 보관 테이블로 복사 (INSERT ... SELECT, 원래 행 삭제는 호출한 쪽에서)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into transactions_archive
+                (id, sender_account_id, recipient_account_id, amount, balance, type, status, transaction_date,
+                 merchant_name, schedule_date, memo)
+            select t.id, t.sender_account_id, t.recipient_account_id, t.amount, t.balance, t.type, t.status,
+                   t.transaction_date, p.merchant_name, s.schedule_date, s.memo
+            from transactions t
+            left join payments p on p.id = t.id
+            left join scheduled_transfers s on s.id = t.id
+            where t.id in :ids
+            """)
+    int copyFromTransactions(@Param("ids") Collection<Long> ids);
+
+    // 가장 오래된 보관 거래일시 (보관 거래가 없으면 null)
+    @Query("select min(a.transactionDate) from ArchivedTransaction a")
+    LocalDateTime findOldestTransactionDate();
+}
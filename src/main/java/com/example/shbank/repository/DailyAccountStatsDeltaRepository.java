@@ -0,0 +1,26 @@
+package com.example.shbank.repository;
+
+import com.example.shbank.entity.DailyAccountStatsDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DailyAccountStatsDeltaRepository extends JpaRepository<DailyAccountStatsDelta, Long> {
+    // 집계에 더할 증분 잠금 (오래된 순, SELECT ... FOR UPDATE SKIP LOCKED, 다른 인스턴스가 잡은 행은 건너뛴다)
+    @Query(nativeQuery = true, value = """
+            select * from daily_account_stats_deltas d
+            order by d.id
+            limit :limit
+            for update skip locked
+            """)
+    List<DailyAccountStatsDelta> lockBatch(@Param("limit") int limit);
+
+    // 집계에 더한 증분 삭제
+    @Modifying
+    @Query("delete from DailyAccountStatsDelta d where d.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,51 @@
+package com.example.shbank.repository;
+
+import com.example.shbank.dto.transaction.DailyAccountStatsRow;
+import com.example.shbank.entity.DailyAccountStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyAccountStatsRepository extends JpaRepository<DailyAccountStats, DailyAccountStats.Key> {
+    // 계좌의 날짜별 입출금 집계 (날짜순, from/to 가 null 이면 그쪽 제한 없음)
+    // 아직 더하지 않은 증분도 합쳐서 거래를 저장한 직후부터 반영된 값을 돌려준다 (조회 비용은 거래 건수가 아니라 일수에 비례).
+    @Query(nativeQuery = true, value = """
+            select h.stats_date as statsDate, sum(h.total_in) as totalIn, sum(h.total_out) as totalOut,
+                   sum(h.transaction_count) as transactionCount
+            from (
+                select s.stats_date, s.total_in, s.total_out, s.transaction_count from daily_account_stats s
+                where s.account_id = :accountId
+                  and (:from is null or s.stats_date >= :from)
+                  and (:to is null or s.stats_date <= :to)
+                union all
+                select d.stats_date, d.amount_in, d.amount_out, d.transaction_count from daily_account_stats_deltas d
+                where d.account_id = :accountId
+                  and (:from is null or d.stats_date >= :from)
+                  and (:to is null or d.stats_date <= :to)
+            ) h
+            group by h.stats_date
+            order by h.stats_date
+            """)
+    List<DailyAccountStatsRow> findDaily(@Param("accountId") Long accountId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // 하루 집계에 더하기 (행이 없으면 만든다)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into daily_account_stats (account_id, stats_date, total_in, total_out, transaction_count)
+            values (:accountId, :statsDate, :totalIn, :totalOut, :transactionCount)
+            on duplicate key update total_in = total_in + :totalIn,
+                                    total_out = total_out + :totalOut,
+                                    transaction_count = transaction_count + :transactionCount
+            """)
+    int add(@Param("accountId") Long accountId,
+            @Param("statsDate") LocalDate statsDate,
+            @Param("totalIn") long totalIn,
+            @Param("totalOut") long totalOut,
+            @Param("transactionCount") long transactionCount);
+}
@@ -0,0 +1,27 @@
+package com.example.shbank.repository;
+
+import com.example.shbank.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    // 응답 저장 (merge 의 사전 SELECT 없이 INSERT, 같은 키가 이미 있으면 PK 위반)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into idempotency_keys (idempotency_key, request_hash, response, created_at)
+            values (:idempotencyKey, :requestHash, :response, :createdAt)
+            """)
+    void insert(@Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash,
+                @Param("response") String response,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    // 보관 기간이 지난 키 삭제
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
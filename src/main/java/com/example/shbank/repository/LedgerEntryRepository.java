@@ -0,0 +1,39 @@
+package com.example.shbank.repository;
+
+import com.example.shbank.dto.account.PendingCredit;
+import com.example.shbank.entity.LedgerEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+    // 스냅샷에 반영되지 않은 입금 합계 (계좌별, 입금이 없는 계좌는 빠진다)
+    @Query("""
+            select e.accountId as accountId, sum(e.amount) as amount
+            from LedgerEntry e
+            where e.accountId in :accountIds and e.compacted = false
+            group by e.accountId
+            """)
+    List<PendingCredit> sumPendingByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    // 반영할 입금이 있는 계좌 ID (ID 순, 잠그지 않음)
+    @Query("select distinct e.accountId from LedgerEntry e where e.compacted = false order by e.accountId")
+    List<Long> findPendingAccountIds(Limit limit);
+
+    // 반영할 입금 잠금 (SELECT ... FOR UPDATE, 계좌 행을 먼저 잠근 뒤 호출)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from LedgerEntry e where e.accountId in :accountIds and e.compacted = false")
+    List<LedgerEntry> findPendingByAccountIdInForUpdate(@Param("accountIds") Collection<Long> accountIds, Limit limit);
+
+    // 스냅샷에 반영한 입금 표시
+    @Modifying
+    @Query("update LedgerEntry e set e.compacted = true where e.id in :ids")
+    int markCompacted(@Param("ids") Collection<Long> ids);
+}
@@ -1,28 +1,196 @@
 package com.example.shbank.repository;
 
+import com.example.shbank.dto.transaction.DueScheduledId;
+import com.example.shbank.dto.transaction.DueScheduledTransfer;
+import com.example.shbank.dto.transaction.ScheduledTransferDeadline;
+import com.example.shbank.dto.transaction.TransactionTypeTotal;
 import com.example.shbank.entity.Transaction;
 import com.example.shbank.enums.TransactionStatus;
-import com.example.shbank.enums.TransactionType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDateTime;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    // 전체 거래 내역
-    List<Transaction> findBySenderAccount_IdOrRecipientAccount_Id(Long senderId, Long recipientId);
+    // 거래 내역 페이지의 거래 ID 조회 (keyset, 최신순)
+    // 보낸 거래와 받은 거래를 각각 (계좌, 거래일시, ID) 인덱스로 범위 조회한 뒤 UNION ALL 로 합친다.
+    // 자기 계좌로 보낸 거래가 두 번 나오지 않도록 받은 거래 쪽에서는 보낸 계좌가 같은 행을 제외한다.
+    // cursorDate/cursorId 가 null 이면 첫 페이지
+    @Query(nativeQuery = true, value = """
+            select h.id from (
+                (select t.id, t.transaction_date from transactions t
+                 where t.sender_account_id = :accountId
+                   and (:type is null or t.type = :type)
+                   and (:start is null or t.transaction_date >= :start)
+                   and (:end is null or t.transaction_date <= :end)
+                   and (:cursorDate is null
+                        or t.transaction_date < :cursorDate
+                        or (t.transaction_date = :cursorDate and t.id < :cursorId))
+                 order by t.transaction_date desc, t.id desc
+                 limit :limit)
+                union all
+                (select t.id, t.transaction_date from transactions t
+                 where t.recipient_account_id = :accountId
+                   and t.sender_account_id <> :accountId
+                   and (:type is null or t.type = :type)
+                   and (:start is null or t.transaction_date >= :start)
+                   and (:end is null or t.transaction_date <= :end)
+                   and (:cursorDate is null
+                        or t.transaction_date < :cursorDate
+                        or (t.transaction_date = :cursorDate and t.id < :cursorId))
+                 order by t.transaction_date desc, t.id desc
+                 limit :limit)
+            ) h
+            order by h.transaction_date desc, h.id desc
+            limit :limit
+            """)
+    List<Long> findHistoryPageIds(@Param("accountId") Long accountId,
+                                  @Param("type") String type,
+                                  @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end,
+                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                  @Param("cursorId") Long cursorId,
+                                  @Param("limit") int limit);
+
+    // 거래 ID 목록으로 조회 (최신순)
+    // 응답 매핑에 필요한 연관 엔티티는 fetch join 으로 한 번에 가져온다 (N+1 방지)
+    @Query("""
+            select t from Transaction t
+            left join fetch t.senderAccount
+            left join fetch t.recipientAccount
+            left join fetch t.scheduledTransfer
+            left join fetch t.cardPayment
+            where t.id in :ids
+            order by t.transactionDate desc, t.id desc
+            """)
+    List<Transaction> findAllWithAccountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 거래 유형별 합계 (엔티티를 읽지 않고 DB에서 집계, 보낸/받은 거래를 나눠 인덱스로 조회)
+    @Query(nativeQuery = true, value = """
+            select h.type as type, sum(h.amount) as total from (
+                select t.type, t.amount from transactions t
+                where t.sender_account_id = :accountId
+                  and (:type is null or t.type = :type)
+                  and (:start is null or t.transaction_date >= :start)
+                  and (:end is null or t.transaction_date <= :end)
+                union all
+                select t.type, t.amount from transactions t
+                where t.recipient_account_id = :accountId
+                  and t.sender_account_id <> :accountId
+                  and (:type is null or t.type = :type)
+                  and (:start is null or t.transaction_date >= :start)
+                  and (:end is null or t.transaction_date <= :end)
+            ) h
+            group by h.type
+            """)
+    List<TransactionTypeTotal> sumAmountByType(@Param("accountId") Long accountId,
+                                               @Param("type") String type,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    // 상태 변경용 거래 조회 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Transaction t where t.id = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Long id);
+
+    // 예약 송금 조회 (수취 계좌, 예약 정보 fetch join)
+    @Query("""
+            select t from Transaction t
+            join fetch t.scheduledTransfer
+            left join fetch t.recipientAccount
+            left join fetch t.cardPayment
+            where t.senderAccount.id = :senderAccountId and t.status = :status
+            """)
+    List<Transaction> findScheduledBySenderAccountId(@Param("senderAccountId") Long senderAccountId,
+                                                     @Param("status") TransactionStatus status);
+
+    // 실행 시각이 된 예약 송금 ID 조회 (잠그지 않음, 예약 시각순, after 가 있으면 그 다음부터)
+    // 보낸 계좌 ID 를 partitionCount 로 나눈 나머지로 나눠서 여러 인스턴스가 나눠 처리한다.
+    @Query(nativeQuery = true, value = """
+            select t.id as id, s.schedule_date as scheduleDate from transactions t
+            join scheduled_transfers s on s.id = t.id
+            where t.status = 'SCHEDULED'
+              and s.schedule_date <= :now
+              and mod(t.sender_account_id, :partitionCount) = :partitionIndex
+              and (:afterDate is null
+                   or s.schedule_date > :afterDate
+                   or (s.schedule_date = :afterDate and t.id > :afterId))
+            order by s.schedule_date, t.id
+            limit :limit
+            """)
+    List<DueScheduledId> findDueScheduledIds(@Param("now") LocalDateTime now,
+                                             @Param("partitionCount") int partitionCount,
+                                             @Param("partitionIndex") int partitionIndex,
+                                             @Param("afterDate") LocalDateTime afterDate,
+                                             @Param("afterId") Long afterId,
+                                             @Param("limit") int limit);
+
+    // 실행 시각이 (from, to] 인 예약 송금 조회 (잠그지 않음, 타이밍 휠 적재용)
+    // 예약 시각 인덱스로 범위 조회하므로 지난 예약 송금이 쌓여도 조회 범위만큼만 읽는다.
+    @Query(nativeQuery = true, value = """
+            select t.id as id, s.schedule_date as scheduleDate
+            from scheduled_transfers s
+            join transactions t on t.id = s.id
+            where s.schedule_date > :from and s.schedule_date <= :to
+              and t.status = 'SCHEDULED'
+              and mod(t.sender_account_id, :partitionCount) = :partitionIndex
+            """)
+    List<ScheduledTransferDeadline> findScheduledDeadlines(@Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to,
+                                                           @Param("partitionCount") int partitionCount,
+                                                           @Param("partitionIndex") int partitionIndex);
+
+    // 실행할 예약 송금 잠금 (SELECT ... FOR UPDATE SKIP LOCKED)
+    // 다른 워커나 취소 요청이 잡고 있는 거래는 건너뛰고, 그 사이 상태가 바뀐 거래는 제외한다.
+    // 거래 행만 잠그고 계좌는 잠그지 않는다 (입금은 원장에 INSERT).
+    @Query(nativeQuery = true, value = """
+            select t.id as id, t.sender_account_id as senderAccountId, t.recipient_account_id as recipientAccountId,
+                   t.amount as amount, t.type as type, s.schedule_date as scheduleDate, r.status as recipientStatus
+            from transactions t
+            join scheduled_transfers s on s.id = t.id
+            join accounts r on r.id = t.recipient_account_id
+            where t.id in :ids and t.status = 'SCHEDULED'
+            for update of t skip locked
+            """)
+    List<DueScheduledTransfer> lockDueScheduledByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 거래 상태 일괄 변경
+    @Modifying
+    @Query("update Transaction t set t.status = :status where t.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") TransactionStatus status);
+
+    // 보관할 거래 잠금 (거래일시가 cutoff 이전이고 예약 중이 아닌 거래, 오래된 순, SELECT ... FOR UPDATE SKIP LOCKED)
+    @Query(nativeQuery = true, value = """
+            select t.id from transactions t
+            where t.transaction_date < :cutoff
+              and t.status <> 'SCHEDULED'
+            order by t.transaction_date, t.id
+            limit :limit
+            for update skip locked
+            """)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 
-    // 날짜 조건 검색
-    List<Transaction> findBySenderAccount_IdOrRecipientAccount_IdAndTransactionDateBetween(
-            Long senderId, Long recipientId, LocalDateTime start, LocalDateTime end);
+    // 가장 오래된 거래일시 (거래가 없으면 null) - 보관 테이블 파티션을 처음 나눌 때 시작 달
+    @Query("select min(t.transactionDate) from Transaction t")
+    LocalDateTime findOldestTransactionDate();
 
-    // 거래 유형에 따른 검색
-    List<Transaction> findBySenderAccount_IdOrRecipientAccount_IdAndType(
-            Long senderId, Long recipientId, TransactionType type);
+    // 보관 테이블로 옮긴 거래 삭제 (카드 결제/예약 송금 행부터)
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from payments where id in :ids")
+    int deleteCardPaymentsByIdIn(@Param("ids") Collection<Long> ids);
 
-    // 거래 유형에 따른 날짜 조건 검색
-    List<Transaction> findBySenderAccount_IdOrRecipientAccount_IdAndTypeAndTransactionDateBetween(
-            Long senderId, Long recipientId, TransactionType type, LocalDateTime start, LocalDateTime end);
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from scheduled_transfers where id in :ids")
+    int deleteScheduledTransfersByIdIn(@Param("ids") Collection<Long> ids);
 
-    // 예약 송금 조회
-    List<Transaction> findBySenderAccount_IdAndStatus(Long senderAccountId, TransactionStatus status);
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from transactions where id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
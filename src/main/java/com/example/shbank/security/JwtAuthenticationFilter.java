@@ -25,11 +25,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                Long userId = jwtUtil.getUserIdFromToken(token);
-                String email = jwtUtil.getEmailFromToken(token);
-
-                CustomUserDetails userDetails = new CustomUserDetails(userId, email);
+            // 서명 검증과 클레임 추출을 한 번에 (최근 검증한 토큰은 캐시에서)
+            jwtUtil.authenticate(token).ifPresent(verified -> {
+                CustomUserDetails userDetails = new CustomUserDetails(verified.userId(), verified.email());
 
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(
@@ -38,7 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 userDetails.getAuthorities()
                         );
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            });
         }
         filterChain.doFilter(request, response);
     }
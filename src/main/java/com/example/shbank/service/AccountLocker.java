@@ -0,0 +1,56 @@
+package com.example.shbank.service;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.exception.transaction.ConcurrentTransferException;
+import com.example.shbank.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 계좌 엔티티를 읽어서 잔액을 변경할 때의 잠금 (예약 송금 취소 등)
+// 이체/카드 결제는 LedgerService.lockAvailableBalance 로 잔액만 잠가 읽고 AccountRepository.withdraw 로 차감한다.
+// PESSIMISTIC: SELECT ... FOR UPDATE 로 잠근다.
+// OPTIMISTIC : 잠그지 않고 @Version 으로 충돌을 감지해 트랜잭션 전체를 maxAttempts 번까지 다시 실행한다.
+@Component
+@RequiredArgsConstructor
+public class AccountLocker {
+
+    public enum LockMode { PESSIMISTIC, OPTIMISTIC }
+
+    private final AccountRepository accountRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.lock-mode:PESSIMISTIC}")
+    private LockMode lockMode;
+
+    @Value("${transfer.max-attempts:3}")
+    private int maxAttempts;
+
+    // 새 트랜잭션에서 실행 (낙관적 잠금 충돌 시 재시도)
+    public <T> T inTransaction(Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int attempt = 0;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (lockMode != LockMode.OPTIMISTIC || ++attempt >= maxAttempts) {
+                    throw new ConcurrentTransferException("다른 거래와 충돌했습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            }
+        }
+    }
+
+    // 단일 계좌 잠금
+    public Optional<Account> lock(Long accountId) {
+        return lockMode == LockMode.PESSIMISTIC
+                ? accountRepository.findByIdForUpdate(accountId)
+                : accountRepository.findById(accountId);
+    }
+}
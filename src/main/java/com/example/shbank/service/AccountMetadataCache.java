@@ -0,0 +1,193 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountMetadata;
+import com.example.shbank.repository.AccountRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 계좌 메타데이터(ID, 계좌번호, 이름, 유형, 소유자) 2단 캐시. 이체 때 보내는/받는 계좌 조회에 사용
+// 1. 인스턴스 메모리 (Caffeine, 계좌 ID / 계좌번호 두 키로)
+// 2. Redis (인스턴스 간 공유, 없으면 DB 조회 후 채운다)
+// 잔액은 캐시하지 않는다 (출금은 항상 DB 에서 계좌 행을 잠그고 확인한다)
+// 계좌 정보가 바뀌면 evictAfterCommit 으로 Redis 키를 지우고, 다른 인스턴스의 메모리 캐시는 Redis pub/sub 으로 지운다
+// Redis 장애 시에는 메모리 캐시와 DB 만 사용한다
+@Slf4j
+@Component
+public class AccountMetadataCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "account-meta:invalidate";
+    private static final String ID_PREFIX = "account-meta:id:";
+    private static final String NUMBER_PREFIX = "account-meta:number:";
+
+    private final AccountRepository accountRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration redisTtl;
+    private final Cache<Long, AccountMetadata> byId;
+    private final Cache<String, AccountMetadata> byNumber;
+
+    public AccountMetadataCache(AccountRepository accountRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                RedisConnectionFactory connectionFactory,
+                                MeterRegistry meterRegistry,
+                                @Value("${account-cache.local-max-size:100000}") long localMaxSize,
+                                @Value("${account-cache.local-ttl-minutes:10}") long localTtlMinutes,
+                                @Value("${account-cache.redis-ttl-minutes:60}") long redisTtlMinutes) {
+        this.accountRepository = accountRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .recordStats()
+                .build();
+        this.byNumber = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "account-metadata-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byNumber, "account-metadata-by-number");
+
+        // 스프링 빈으로 등록하면 기동 시 바로 구독하다 Redis 가 없으면 기동이 실패하므로 직접 만들어 시작한다
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+    }
+
+    // 무효화 메시지 구독 시작 (기동 직후, 이후 Redis 가 없어 실패했으면 다음 주기에 다시 시도)
+    // 구독하지 못한 동안 놓친 변경은 메모리 캐시 유지 시간이 지나면 반영된다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${account-cache.subscribe-retry-ms:30000}")
+    public void subscribeInvalidation() {
+        if (listenerContainer.isRunning()) {
+            return;
+        }
+        try {
+            listenerContainer.start();
+        } catch (RuntimeException e) {
+            listenerContainer.stop();
+            log.warn("계좌 캐시 무효화 구독 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    public Optional<AccountMetadata> findById(Long id) {
+        AccountMetadata cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(ID_PREFIX + id, () -> accountRepository.findMetadataById(id));
+    }
+
+    public Optional<AccountMetadata> findByAccountNumber(String accountNumber) {
+        AccountMetadata cached = byNumber.getIfPresent(accountNumber);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(NUMBER_PREFIX + accountNumber, () -> accountRepository.findMetadataByAccountNumber(accountNumber));
+    }
+
+    // 계좌 정보 변경 시 호출. 지금 지우고, 커밋 뒤에 한 번 더 지워 그 사이 다시 채워진 이전 값도 없앤다
+    public void evictAfterCommit(Long id, String accountNumber) {
+        evict(id, accountNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id, accountNumber);
+                }
+            });
+        }
+    }
+
+    public void evict(Long id, String accountNumber) {
+        evictLocal(id, accountNumber);
+        try {
+            redisTemplate.delete(List.of(ID_PREFIX + id, NUMBER_PREFIX + accountNumber));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, id + ":" + accountNumber);
+        } catch (DataAccessException e) {
+            log.warn("계좌 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스가 보낸 무효화 메시지 ("계좌ID:계좌번호")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(':');
+        evictLocal(Long.valueOf(body.substring(0, idx)), body.substring(idx + 1));
+    }
+
+    private Optional<AccountMetadata> load(String redisKey, Supplier<Optional<AccountMetadata>> query) {
+        AccountMetadata metadata = redisGet(redisKey);
+        if (metadata == null) {
+            // 없는 계좌는 캐시하지 않는다 (새로 개설된 계좌를 바로 찾을 수 있도록)
+            metadata = query.get().orElse(null);
+            if (metadata == null) {
+                return Optional.empty();
+            }
+            redisSet(redisKey, metadata);
+        }
+        byId.put(metadata.getId(), metadata);
+        byNumber.put(metadata.getAccountNumber(), metadata);
+        return Optional.of(metadata);
+    }
+
+    private void evictLocal(Long id, String accountNumber) {
+        byId.invalidate(id);
+        byNumber.invalidate(accountNumber);
+    }
+
+    private AccountMetadata redisGet(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, AccountMetadata.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("계좌 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String key, AccountMetadata metadata) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(metadata), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("계좌 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
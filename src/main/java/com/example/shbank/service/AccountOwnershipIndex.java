@@ -0,0 +1,167 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountOwner;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.util.LongLongHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+// 계좌 ID -> 소유자 ID 인덱스 (메모리, 박싱 없는 long 맵)
+// 소유자 확인만 필요한 요청이 계좌를 DB 에서 읽지 않고 확인할 수 있게 한다.
+// 기동 후 전체 계좌를 읽어 채우고, 개설/삭제 시 커밋 후 반영한다.
+// 다른 인스턴스에서 개설된 계좌처럼 인덱스에 없으면 DB 에서 소유자만 조회해 채운다.
+// 계좌 소유자는 바뀌지 않고 ID 는 재사용되지 않으므로 무효화할 일이 없다.
+@Slf4j
+@Component
+public class AccountOwnershipIndex {
+
+    public static final long UNKNOWN_OWNER = -1L;
+
+    private final AccountRepository accountRepository;
+    private final int warmUpChunkSize;
+    private final LongLongHashMap owners;
+    // 조회는 잠금 없이(낙관적 읽기) 하고, 쓰기와 겹쳤을 때만 읽기 잠금으로 다시 읽는다
+    private final StampedLock lock = new StampedLock();
+
+    public AccountOwnershipIndex(AccountRepository accountRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${account-ownership.initial-capacity:100000}") int initialCapacity,
+                                 @Value("${account-ownership.warm-up-chunk-size:10000}") int warmUpChunkSize) {
+        this.accountRepository = accountRepository;
+        this.warmUpChunkSize = warmUpChunkSize;
+        this.owners = new LongLongHashMap(initialCapacity);
+        Gauge.builder("shbank.account.ownership.index.size", this, AccountOwnershipIndex::size)
+                .register(meterRegistry);
+    }
+
+    // 소유자가 아니면 AccessDeniedException, 계좌가 없으면 AccountNotFoundException
+    public void checkOwner(long accountId, long userId) {
+        long owner = ownerOf(accountId);
+        if (owner == UNKNOWN_OWNER) {
+            throw new AccountNotFoundException("해당 계좌가 존재하지 않습니다.");
+        }
+        if (owner != userId) {
+            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
+        }
+    }
+
+    // 계좌 소유자 ID (없는 계좌면 UNKNOWN_OWNER)
+    public long ownerOf(long accountId) {
+        long owner = lookup(accountId);
+        if (owner != UNKNOWN_OWNER) {
+            return owner;
+        }
+        // 없는 계좌는 넣지 않는다 (곧 개설될 수 있으므로)
+        Long userId = accountRepository.findUserIdById(accountId).orElse(null);
+        if (userId == null) {
+            return UNKNOWN_OWNER;
+        }
+        put(accountId, userId);
+        return userId;
+    }
+
+    // 계좌 개설 시 호출 (롤백되면 반영하지 않도록 커밋 후 추가)
+    public void putAfterCommit(long accountId, long userId) {
+        afterCommit(() -> put(accountId, userId));
+    }
+
+    // 계좌 삭제 시 호출
+    public void removeAfterCommit(long accountId) {
+        afterCommit(() -> remove(accountId));
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return owners.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 기동 후 전체 계좌를 ID 순으로 나눠 읽어 채운다. 채우는 중에 들어온 요청은 없는 계좌를 DB 에서 확인한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        int loaded = 0;
+        List<AccountOwner> chunk;
+        do {
+            chunk = accountRepository.findOwnersAfter(afterId, Limit.of(warmUpChunkSize));
+            long stamp = lock.writeLock();
+            try {
+                for (AccountOwner owner : chunk) {
+                    owners.put(owner.getAccountId(), owner.getUserId());
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getAccountId();
+                loaded += chunk.size();
+            }
+        } while (chunk.size() == warmUpChunkSize);
+        log.info("계좌 소유자 인덱스 적재: {}건, {}ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    private long lookup(long accountId) {
+        if (accountId <= 0) {
+            return UNKNOWN_OWNER;
+        }
+        long stamp = lock.tryOptimisticRead();
+        long owner = owners.get(accountId, UNKNOWN_OWNER);
+        if (lock.validate(stamp)) {
+            return owner;
+        }
+        stamp = lock.readLock();
+        try {
+            return owners.get(accountId, UNKNOWN_OWNER);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void put(long accountId, long userId) {
+        long stamp = lock.writeLock();
+        try {
+            owners.put(accountId, userId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void remove(long accountId) {
+        long stamp = lock.writeLock();
+        try {
+            owners.remove(accountId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
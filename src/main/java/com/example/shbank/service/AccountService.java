@@ -11,15 +11,18 @@ import com.example.shbank.exception.account.AccountNotFoundException;
 import com.example.shbank.mapper.AccountMapper;
 import com.example.shbank.repository.AccountRepository;
 import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("shbank.service")
 @RequiredArgsConstructor
 public class AccountService {
 
@@ -27,6 +30,9 @@ public class AccountService {
     private final AccountMapper accountMapper;
     private final PasswordEncoder passwordEncoder;
     private final EntityManager entityManager;
+    private final AccountMetadataCache accountMetadataCache;
+    private final AccountOwnershipIndex accountOwnershipIndex;
+    private final LedgerService ledgerService;
 
     // 계좌 개설 (POST)
     @Transactional
@@ -40,30 +46,31 @@ public class AccountService {
                 .status(AccountStatus.ACTIVE)
                 .user(userProxy)
                 .accountName(request.getAccountName())
-                .accountNumber("temp")
                 .transferLimit(request.getTransferLimit())
                 .authPassword(encodedPassword)
                 .build();
 
+        // 계좌번호는 미리 할당된 ID 로 INSERT 때 채워진다 (INSERT 한 번)
         account = accountRepository.saveAndFlush(account);
-        account = account.assignAccountNumberFromId();
-        account = accountRepository.save(account);
+        accountOwnershipIndex.putAfterCommit(account.getId(), userId);
 
         return accountMapper.toCreateDto(account);
     }
 
-    // 계좌 목록 조회 (GET)
+    // 계좌 목록 조회 (GET, 잔액은 스냅샷 + 반영되지 않은 입금)
     @Transactional(readOnly = true)
     public List<AccountResponse> getAccountByUser(Long userId) {
         List<Account> accounts = accountRepository.findByUserId(userId);
-        return accounts.stream().map(accountMapper::toDto).collect(Collectors.toList());
+        Map<Long, Long> credits = ledgerService.pendingCredits(accounts.stream().map(Account::getId).toList());
+        return accounts.stream().map(account -> toDto(account, credits)).collect(Collectors.toList());
     }
 
     // 계좌 번호 조회 (GET)
     @Transactional(readOnly = true)
-    public Account getAccountByAccountNumber(String accountNumber) throws AccountNotFoundException {
-        return accountRepository.findByAccountNumber(accountNumber)
+    public AccountResponse getAccountByAccountNumber(String accountNumber) throws AccountNotFoundException {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
+        return toDto(account, ledgerService.pendingCredits(List.of(account.getId())));
     }
 
     // 계좌 설정 변경 (PATCH)
@@ -71,13 +78,11 @@ public class AccountService {
     public void updateAccountSettings(Long accountId, Long userId, AccountSettingRequest request)
             throws AccountNotFoundException, AccessDeniedException {
 
+        // 소유자가 아니면 계좌를 읽기 전에 거절
+        accountOwnershipIndex.checkOwner(accountId, userId);
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
 
-        if (!account.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
-        }
-
         if (request.getTransferLimit() != null) {
             account.updateTransferLimit(request.getTransferLimit());
         }
@@ -94,20 +99,15 @@ public class AccountService {
         }
 
         accountRepository.save(account);
+        accountMetadataCache.evictAfterCommit(account.getId(), account.getAccountNumber());
     }
 
     // 1회 이체 한도 조회 (GET)
-    public Integer getTransferLimit(Long accountId, Long userId)
+    public Long getTransferLimit(Long accountId, Long userId)
             throws AccountNotFoundException, AccessDeniedException {
 
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
-
-        if (!account.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
-        }
-
-        return account.getTransferLimit();
+        accountOwnershipIndex.checkOwner(accountId, userId);
+        return accountRepository.findTransferLimitById(accountId);
     }
 
     // 계좌 인증 비밀번호 확인 (POST)
@@ -123,4 +123,10 @@ public class AccountService {
 
         return true;
     }
+
+    private AccountResponse toDto(Account account, Map<Long, Long> credits) {
+        AccountResponse response = accountMapper.toDto(account);
+        response.setBalance(account.getBalance() + credits.getOrDefault(account.getId(), 0L));
+        return response;
+    }
 }
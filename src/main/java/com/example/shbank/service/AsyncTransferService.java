@@ -0,0 +1,196 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.AsyncTransferResponse;
+import com.example.shbank.entity.IdempotencyRecord;
+import com.example.shbank.enums.AsyncTransferState;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 비동기 이체 접수와 상태 조회
+// 요청을 검증(금액, 소유자, 계좌 존재)만 하고 Redis 스트림에 넣은 뒤 요청 ID 를 바로 돌려준다.
+// 잔액 변경은 AsyncTransferSettler 가 여러 요청을 모아 트랜잭션 하나로 처리한다.
+// 상태는 Redis 에 두고(PENDING -> COMPLETED/FAILED), 정산 결과는 정산 트랜잭션에서 DB(idempotency_keys)에도 남긴다.
+// Redis 장애로 스트림에 넣지 못하면 동기 이체로 바로 처리해 결과를 돌려준다.
+// Idempotency-Key 트랜잭션 안에서 접수하면 키와 응답(요청 ID)이 커밋된 뒤에 스트림에 넣는다.
+// (먼저 넣으면 키 저장이 롤백되어도 요청이 정산되어, 실패를 받은 요청의 돈이 옮겨지고 재시도가 한 번 더 옮긴다)
+// 커밋 뒤에 넣지 못하면 요청을 FAILED 로 남긴다 (이미 PENDING 응답이 저장되었으므로 동기 처리로 바꿀 수 없다).
+// 스트림이 유실되지 않으려면 Redis 에 AOF(appendfsync everysec 이상)를 켜 두어야 한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncTransferService {
+
+    public static final String STREAM_KEY = "transfer-async:requests";
+    private static final String STATUS_PREFIX = "transfer-async:status:";
+    // 정산 결과 DB 키 (사용자 Idempotency-Key 는 "{userId}:" 로 시작하므로 겹치지 않는다)
+    private static final String RESULT_PREFIX = "async:";
+
+    private final TransactionService transactionService;
+    private final AccountMetadataCache accountMetadataCache;
+    private final AccountOwnershipIndex accountOwnershipIndex;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.async.status-ttl-hours:24}")
+    private long statusTtlHours;
+
+    // 이체 접수 (PENDING 응답, Redis 장애 시에는 동기 처리한 결과)
+    public AsyncTransferResponse submit(Long senderAccountId,
+                                        String recipientAccountNumber,
+                                        Long amount,
+                                        TransactionType type,
+                                        Long userId) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+        accountOwnershipIndex.checkOwner(senderAccountId, userId);
+        AccountSummary recipient = accountMetadataCache.findByAccountNumber(recipientAccountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("수취 계좌가 존재하지 않습니다."));
+
+        // 요청 ID 는 접수할 때 정한다 (스트림에 넣기 전에 응답으로 저장될 수 있다)
+        AsyncTransferResponse pending = AsyncTransferResponse.builder()
+                .requestId(UUID.randomUUID().toString())
+                .userId(userId)
+                .state(AsyncTransferState.PENDING)
+                .build();
+        Map<String, String> fields = Map.of(
+                "requestId", pending.getRequestId(),
+                "userId", String.valueOf(userId),
+                "sender", String.valueOf(senderAccountId),
+                "recipient", String.valueOf(recipient.getId()),
+                "amount", String.valueOf(amount),
+                "type", type.name());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    if (!enqueue(pending, fields)) {
+                        reject(pending);
+                    }
+                }
+            });
+            return pending;
+        }
+        if (!enqueue(pending, fields)) {
+            log.warn("비동기 이체 접수 실패, 동기 처리");
+            return AsyncTransferResponse.builder()
+                    .userId(userId)
+                    .state(AsyncTransferState.COMPLETED)
+                    .transaction(transactionService.transfer(senderAccountId, recipientAccountNumber, amount,
+                            null, null, type, userId))
+                    .build();
+        }
+        return pending;
+    }
+
+    // 상태를 PENDING 으로 올리고 스트림에 넣는다 (Redis 장애면 false)
+    // 정산이 먼저 끝나 결과 상태를 PENDING 으로 덮어쓰지 않도록 상태부터 올린다.
+    private boolean enqueue(AsyncTransferResponse pending, Map<String, String> fields) {
+        publish(pending);
+        try {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields));
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("비동기 이체 접수 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 커밋 뒤 스트림에 넣지 못한 요청을 FAILED 로 남긴다 (정산 결과와 같은 DB 키, 커밋이 끝난 뒤라 새 트랜잭션)
+    private void reject(AsyncTransferResponse pending) {
+        AsyncTransferResponse failed = AsyncTransferResponse.builder()
+                .requestId(pending.getRequestId())
+                .userId(pending.getUserId())
+                .state(AsyncTransferState.FAILED)
+                .reason("이체 요청을 접수하지 못했습니다.")
+                .build();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> idempotencyRecordRepository.insert(resultKey(failed.getRequestId()),
+                DigestUtils.md5DigestAsHex(failed.getRequestId().getBytes(StandardCharsets.UTF_8)),
+                toJson(failed), LocalDateTime.now()));
+        publish(failed);
+    }
+
+    // 상태 조회 (Redis, 없으면 DB 의 정산 결과, 둘 다 없거나 다른 사용자의 요청이면 예외)
+    public AsyncTransferResponse getStatus(String requestId, Long userId) {
+        AsyncTransferResponse status = redisGet(STATUS_PREFIX + requestId);
+        if (status == null) {
+            status = idempotencyRecordRepository.findById(resultKey(requestId))
+                    .map(IdempotencyRecord::getResponse)
+                    .map(this::fromJson)
+                    .orElse(null);
+        }
+        if (status == null || !Objects.equals(status.getUserId(), userId)) {
+            throw new AccountNotFoundException("해당 이체 요청이 존재하지 않습니다.");
+        }
+        return status;
+    }
+
+    // 상태를 Redis 에 기록 (실패해도 정산 결과는 DB 에 있다)
+    public void publish(AsyncTransferResponse status) {
+        try {
+            redisTemplate.opsForValue().set(STATUS_PREFIX + status.getRequestId(), toJson(status),
+                    statusTtlHours, TimeUnit.HOURS);
+        } catch (DataAccessException e) {
+            log.warn("비동기 이체 상태 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public static String resultKey(String requestId) {
+        return RESULT_PREFIX + requestId;
+    }
+
+    public String toJson(AsyncTransferResponse status) {
+        try {
+            return objectMapper.writeValueAsString(status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이체 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    public AsyncTransferResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, AsyncTransferResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이체 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private AsyncTransferResponse redisGet(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : fromJson(json);
+        } catch (DataAccessException e) {
+            log.warn("비동기 이체 상태 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
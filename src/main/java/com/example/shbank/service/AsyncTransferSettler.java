@@ -0,0 +1,350 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountMetadata;
+import com.example.shbank.dto.transaction.AsyncTransferResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.IdempotencyRecord;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.AsyncTransferState;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.mapper.TransactionMapper;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.example.shbank.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 비동기 이체 정산기 (AsyncTransferService 가 Redis 스트림에 넣은 요청을 처리)
+// 워커마다 컨슈머 그룹으로 요청을 batch-size 개씩 읽어 트랜잭션 하나로 정산한다 (group commit).
+// 1. 배치에 나오는 보내는 계좌를 ID 순서로 한 번에 잠그고 (SELECT ... FOR UPDATE, 이체와 같은 잠금 순서)
+// 2. 메모리에서 요청 순서대로 출금한 뒤 (잔액이 모자라거나 계좌가 없으면 그 요청만 FAILED)
+// 3. 계좌 UPDATE, 거래/입금 원장 INSERT 를 JDBC batch 로 내보내고 결과를 idempotency_keys 에 남겨 한 번에 커밋한다.
+// 커밋 후 상태를 Redis 에 올리고 ack 한다. ack 전에 죽으면 claim-idle-ms 뒤 reclaim 이 다른 컨슈머로 가져와
+// 다시 정산하는데, DB 에 결과가 있는 요청은 다시 처리하지 않고 그 결과를 그대로 쓴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncTransferSettler {
+
+    private static final String GROUP = "settlers";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionMapper transactionMapper;
+    private final AsyncTransferService asyncTransferService;
+    private final TransactionMetrics transactionMetrics;
+    private final AccountMetadataCache accountMetadataCache;
+    private final LedgerService ledgerService;
+    private final DailyAccountStatsService dailyAccountStatsService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.async.workers:2}")
+    private int workers;
+
+    @Value("${transfer.async.batch-size:200}")
+    private int batchSize;
+
+    @Value("${transfer.async.idle-poll-ms:20}")
+    private long idlePollMillis;
+
+    @Value("${transfer.async.claim-idle-ms:60000}")
+    private long claimIdleMillis;
+
+    // 인스턴스마다 다른 컨슈머 이름 (재시작하면 이전 이름의 미처리 요청은 reclaim 이 가져온다)
+    private final String consumerPrefix = "settler-" + UUID.randomUUID();
+    private volatile boolean groupReady;
+    private volatile boolean running;
+    private ExecutorService pollers;
+
+    // 워커 시작 (workers 가 0 이면 시작하지 않는다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (workers <= 0) {
+            return;
+        }
+        running = true;
+        pollers = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            String consumer = consumerPrefix + "-" + i;
+            pollers.execute(() -> poll(consumer));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (pollers != null) {
+            pollers.shutdown();
+            pollers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // 새 요청을 한 배치 읽어 정산 (처리한 건수 반환)
+    public int settleNext(String consumer) {
+        ensureGroup();
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        // BLOCK 읽기는 호출마다 전용 연결을 새로 열므로 쓰지 않고, 비어 있으면 poll 에서 잠깐 쉰다
+        return settle(stream.read(Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(AsyncTransferService.STREAM_KEY, ReadOffset.lastConsumed())));
+    }
+
+    // 쌓인 요청을 모두 정산 (처리한 건수 반환)
+    public int drain() {
+        int total = 0;
+        int settled;
+        while ((settled = settleNext(consumerPrefix + "-drain")) > 0) {
+            total += settled;
+        }
+        return total;
+    }
+
+    // ack 되지 않은 채 claim-idle-ms 가 지난 요청(정산 중 죽은 컨슈머, DB 오류로 실패한 배치)을 가져와 다시 정산
+    @Scheduled(fixedDelayString = "${transfer.async.claim-interval-ms:30000}")
+    public void reclaim() {
+        try {
+            ensureGroup();
+            StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+            Duration minIdle = Duration.ofMillis(claimIdleMillis);
+            RecordId[] stale = stream.pending(AsyncTransferService.STREAM_KEY, GROUP, Range.unbounded(), batchSize)
+                    .stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (stale.length > 0) {
+                int settled = settle(stream.claim(AsyncTransferService.STREAM_KEY, GROUP,
+                        consumerPrefix + "-reclaim", minIdle, stale));
+                log.info("미처리 비동기 이체 {}건 재정산", settled);
+            }
+        } catch (DataAccessException e) {
+            log.warn("비동기 이체 재정산 실패: {}", e.getMessage());
+        }
+    }
+
+    private void poll(String consumer) {
+        while (running) {
+            try {
+                if (settleNext(consumer) == 0) {
+                    Thread.sleep(idlePollMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 처리하지 못한 배치는 ack 되지 않고 남아 reclaim 에서 다시 정산된다
+                log.warn("비동기 이체 정산 실패: {}", e.getMessage());
+                try {
+                    Thread.sleep(Math.max(idlePollMillis, 1000));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int settle(List<MapRecord<String, String, String>> records) {
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+        List<AsyncTransferResponse> results = new TransactionTemplate(transactionManager)
+                .execute(status -> settleInTransaction(records));
+        results.forEach(asyncTransferService::publish);
+
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        stream.acknowledge(AsyncTransferService.STREAM_KEY, GROUP, ids);
+        // 처리한 요청은 스트림에서 지워 스트림에는 정산 전 요청만 남게 한다
+        stream.delete(AsyncTransferService.STREAM_KEY, ids);
+        return records.size();
+    }
+
+    private List<AsyncTransferResponse> settleInTransaction(List<MapRecord<String, String, String>> records) {
+        // 이미 정산해 결과가 DB 에 있는 요청 (ack 전에 죽었다가 다시 온 요청)
+        Map<String, String> settled = new HashMap<>();
+        for (IdempotencyRecord record : idempotencyRecordRepository.findAllById(records.stream()
+                .map(r -> AsyncTransferService.resultKey(Request.of(r).requestId()))
+                .toList())) {
+            settled.put(record.getIdempotencyKey(), record.getResponse());
+        }
+
+        List<Request> requests = new ArrayList<>();
+        TreeSet<Long> senderIds = new TreeSet<>();
+        Map<Long, AccountMetadata> summaries = new HashMap<>();
+        for (MapRecord<String, String, String> record : records) {
+            Request request = Request.of(record);
+            requests.add(request);
+            if (request.valid() && !settled.containsKey(AsyncTransferService.resultKey(request.requestId()))) {
+                senderIds.add(request.senderId());
+                for (Long id : List.of(request.senderId(), request.recipientId())) {
+                    if (!summaries.containsKey(id)) {
+                        accountMetadataCache.findById(id).ifPresent(summary -> summaries.put(id, summary));
+                    }
+                }
+            }
+        }
+
+        // 보내는 계좌만 잠그고, 잠근 뒤 반영되지 않은 입금을 읽는다 (받는 계좌는 잠그지 않고 있는지만 확인)
+        Map<Long, Account> senders = new HashMap<>();
+        Map<Long, Long> credits = new HashMap<>();
+        if (!senderIds.isEmpty()) {
+            accountRepository.findAllByIdInForUpdate(senderIds).forEach(a -> senders.put(a.getId(), a));
+            credits = ledgerService.pendingCredits(senders.keySet());
+            summaries.keySet().retainAll(accountRepository.findIdsByIdIn(summaries.keySet()));
+        }
+
+        List<AsyncTransferResponse> results = new ArrayList<>(requests.size());
+        List<Transaction> transactions = new ArrayList<>();
+        Transaction[] completed = new Transaction[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            Request request = requests.get(i);
+            String previous = settled.get(AsyncTransferService.resultKey(request.requestId()));
+            if (previous != null) {
+                results.add(asyncTransferService.fromJson(previous));
+                continue;
+            }
+
+            Account sender = request.valid() ? senders.get(request.senderId()) : null;
+            if (sender == null || !summaries.containsKey(request.recipientId())) {
+                results.add(failed(request, request.valid() ? "계좌가 존재하지 않습니다." : "잘못된 이체 요청입니다."));
+                continue;
+            }
+            long pending = credits.get(sender.getId());
+            if (sender.getBalance() + pending < request.amount()) {
+                transactionMetrics.insufficientBalance("async_transfer");
+                results.add(failed(request, "잔액이 부족합니다."));
+                continue;
+            }
+
+            sender.withdraw(request.amount(), pending);
+            // 같은 배치에서 받은 돈을 다시 보낼 수 있도록 잠근 계좌의 입금은 바로 더해 둔다
+            credits.computeIfPresent(request.recipientId(), (id, amount) -> amount + request.amount());
+            Transaction transaction = Transaction.builder()
+                    .senderAccount(sender)
+                    .recipientAccount(accountRepository.getReferenceById(request.recipientId()))
+                    .amount(request.amount())
+                    .balance(sender.getBalance() + credits.get(sender.getId()))
+                    .type(request.type())
+                    .status(TransactionStatus.COMPLETED)
+                    .build();
+            transactions.add(transaction);
+            completed[i] = transaction;
+            results.add(null); // 거래 ID 가 정해진 뒤 채운다
+        }
+
+        transactionRepository.saveAll(transactions);
+        dailyAccountStatsService.recordAll(transactions);
+        ledgerService.creditAll(transactions.stream()
+                .map(t -> LedgerService.entry(t.getRecipientAccount().getId(), t.getId(), t.getAmount()))
+                .toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.size(); i++) {
+            Request request = requests.get(i);
+            Transaction transaction = completed[i];
+            if (transaction != null) {
+                results.set(i, AsyncTransferResponse.builder()
+                        .requestId(request.requestId())
+                        .userId(request.userId())
+                        .state(AsyncTransferState.COMPLETED)
+                        .transaction(transactionMapper.toResponse(transaction,
+                                summaries.get(request.senderId()), summaries.get(request.recipientId())))
+                        .build());
+                transactionMetrics.asyncTransferCommitted(request.type());
+            }
+            String key = AsyncTransferService.resultKey(request.requestId());
+            if (!settled.containsKey(key)) {
+                idempotencyRecordRepository.insert(key,
+                        DigestUtils.md5DigestAsHex(request.requestId().getBytes(StandardCharsets.UTF_8)),
+                        asyncTransferService.toJson(results.get(i)), now);
+            }
+        }
+        return results;
+    }
+
+    private AsyncTransferResponse failed(Request request, String reason) {
+        return AsyncTransferResponse.builder()
+                .requestId(request.requestId())
+                .userId(request.userId())
+                .state(AsyncTransferState.FAILED)
+                .reason(reason)
+                .build();
+    }
+
+    // 컨슈머 그룹 생성 (스트림이 없으면 함께 만든다, 이미 있으면 무시)
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisConnection connection) -> connection.streamCommands().xGroupCreate(
+                    AsyncTransferService.STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    // 스트림 요청 한 건 (필드가 잘못되었으면 valid = false)
+    private record Request(String requestId, Long userId, Long senderId, Long recipientId, long amount,
+                           TransactionType type, boolean valid) {
+
+        static Request of(MapRecord<String, String, String> record) {
+            Map<String, String> fields = record.getValue();
+            // 요청 ID 는 접수할 때 정해 필드로 넣는다 (필드가 없는 예전 요청은 스트림 ID)
+            String requestId = fields.getOrDefault("requestId", record.getId().getValue());
+            try {
+                return new Request(requestId,
+                        Long.valueOf(fields.get("userId")),
+                        Long.valueOf(fields.get("sender")),
+                        Long.valueOf(fields.get("recipient")),
+                        Long.parseLong(fields.get("amount")),
+                        TransactionType.valueOf(fields.get("type")),
+                        true);
+            } catch (RuntimeException e) {
+                return new Request(requestId, null, null, null, 0L, null, false);
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.example.shbank.exception.auth.EmailAlreadyExistsException;
 import com.example.shbank.exception.auth.UnauthorizedException;
 import com.example.shbank.repository.UserRepository;
 import com.example.shbank.util.JWTUtil;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -13,8 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
+@Timed("shbank.service")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -22,6 +26,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JWTUtil jwtUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     // 회원가입
     public RegisterResponse register(RegisterRequest request) {
@@ -58,12 +63,12 @@ public class AuthService {
         String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail());
         String refreshToken = jwtUtil.generateRefreshToken(user.getId());
 
-        redisTemplate.opsForValue().set(
+        timeRedis("set", () -> redisTemplate.opsForValue().set(
                 "refreshToken:" + user.getId(),
                 refreshToken,
                 jwtUtil.getRefreshTokenValidity(),
                 TimeUnit.MILLISECONDS
-        );
+        ));
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -78,13 +83,11 @@ public class AuthService {
 
     // 액세스 토큰 재발급
     public AccessTokenResponse refreshAccessToken(AccessTokenRequest request) {
-        if (!jwtUtil.validateToken(request.getRefreshToken())) {
-            throw new UnauthorizedException("유효하지 않은 리프레시 토큰입니다.");
-        }
-
-        Long userId = jwtUtil.getUserIdFromToken(request.getRefreshToken());
+        Long userId = jwtUtil.authenticate(request.getRefreshToken())
+                .map(JWTUtil.VerifiedToken::userId)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 리프레시 토큰입니다."));
 
-        String storedToken = redisTemplate.opsForValue().get("refreshToken:" + userId);
+        String storedToken = timeRedis("get", () -> redisTemplate.opsForValue().get("refreshToken:" + userId));
         if (storedToken == null || !storedToken.equals(request.getRefreshToken())) {
             throw new UnauthorizedException("리프레시 토큰이 일치하지 않습니다.");
         }
@@ -104,6 +107,15 @@ public class AuthService {
 
     // 로그아웃 (Redis에서 refreshToken 삭제)
     public void logout(Long userId) {
-        redisTemplate.delete("refreshToken:" + userId);
+        timeRedis("delete", () -> redisTemplate.delete("refreshToken:" + userId));
+    }
+
+    // Redis 호출 시간 측정 (shbank.auth.redis, operation 태그)
+    private <T> T timeRedis(String operation, Supplier<T> call) {
+        return meterRegistry.timer("shbank.auth.redis", "operation", operation).record(call);
+    }
+
+    private void timeRedis(String operation, Runnable call) {
+        meterRegistry.timer("shbank.auth.redis", "operation", operation).record(call);
     }
 }
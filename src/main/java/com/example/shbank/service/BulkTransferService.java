@@ -0,0 +1,225 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountMetadata;
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.BulkTransferRequest;
+import com.example.shbank.dto.transaction.BulkTransferResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.BulkTransferMode;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 일괄 이체 (한 계좌에서 여러 계좌로, 급여/정산용)
+// 건별 이체를 반복하는 대신
+// 1. 받는 계좌를 계좌번호 IN 조회 한 번으로 확인하고
+// 2. 보내는 계좌는 먼저 잠가 잔액을 확인하고 합계로 한 번만 출금하고
+// 3. 거래 행과 받는 계좌의 입금 원장 행은 한꺼번에 저장한다 (ID 를 시퀀스에서 미리 받으므로 INSERT 가 JDBC batch 로 묶인다)
+// 처리 방식은 요청의 mode (없으면 transfer.bulk.default-mode)
+// - ALL_OR_NOTHING : 한 항목이라도 처리할 수 없으면 아무것도 처리하지 않는다 (잔액 부족은 InsufficientBalanceException)
+// - BEST_EFFORT    : 처리할 수 없는 항목만 빼고 처리한다 (잔액이 모자라면 요청 순서대로 들어가는 항목까지)
+@Service
+@Timed("shbank.service")
+@RequiredArgsConstructor
+public class BulkTransferService {
+
+    private static final String INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
+    private static final String NOT_PROCESSED = "다른 항목이 실패해 처리하지 않았습니다.";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountMetadataCache accountMetadataCache;
+    private final AccountOwnershipIndex accountOwnershipIndex;
+    private final TransactionMetrics transactionMetrics;
+    private final LedgerService ledgerService;
+    private final DailyAccountStatsService dailyAccountStatsService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.bulk.max-items:1000}")
+    private int maxItems;
+
+    @Value("${transfer.bulk.default-mode:ALL_OR_NOTHING}")
+    private BulkTransferMode defaultMode;
+
+    public BulkTransferResponse transfer(BulkTransferRequest request, Long userId) {
+        List<BulkTransferRequest.Item> items = request.getTransfers();
+        if (items == null || items.isEmpty() || items.size() > maxItems) {
+            throw new IllegalArgumentException("일괄 이체는 1~" + maxItems + "건까지 가능합니다.");
+        }
+        BulkTransferMode mode = request.getMode() != null ? request.getMode() : defaultMode;
+
+        accountOwnershipIndex.checkOwner(request.getSenderAccountId(), userId);
+        AccountSummary sender = accountMetadataCache.findById(request.getSenderAccountId())
+                .orElseThrow(() -> new AccountNotFoundException("송금 계좌가 존재하지 않습니다."));
+
+        // 받는 계좌 확인 (IN 조회 한 번)
+        Map<String, AccountMetadata> recipients = new HashMap<>();
+        for (AccountMetadata recipient : accountRepository.findMetadataByAccountNumberIn(
+                items.stream().map(BulkTransferRequest.Item::getRecipientAccountNumber).distinct().toList())) {
+            recipients.put(recipient.getAccountNumber(), recipient);
+        }
+
+        // 항목 검증 (실패 사유, 처리할 항목은 null)
+        String[] reasons = new String[items.size()];
+        boolean anyInvalid = false;
+        for (int i = 0; i < items.size(); i++) {
+            BulkTransferRequest.Item item = items.get(i);
+            if (item.getAmount() == null || item.getAmount() <= 0) {
+                reasons[i] = "금액은 0보다 커야 합니다.";
+            } else if (!recipients.containsKey(item.getRecipientAccountNumber())) {
+                reasons[i] = "수취 계좌가 존재하지 않습니다.";
+            }
+            anyInvalid |= reasons[i] != null;
+        }
+
+        if (mode == BulkTransferMode.ALL_OR_NOTHING && anyInvalid) {
+            for (int i = 0; i < reasons.length; i++) {
+                if (reasons[i] == null) {
+                    reasons[i] = NOT_PROCESSED;
+                }
+            }
+            return toResponse(sender.getId(), mode, items, reasons, new Transaction[items.size()],
+                    0L, accountRepository.findBalanceById(sender.getId()));
+        }
+        return new TransactionTemplate(transactionManager).execute(status ->
+                transfer(sender, mode, items, recipients, reasons));
+    }
+
+    private BulkTransferResponse transfer(AccountSummary sender,
+                                          BulkTransferMode mode,
+                                          List<BulkTransferRequest.Item> items,
+                                          Map<String, AccountMetadata> recipients,
+                                          String[] reasons) {
+        // 보내는 계좌부터 잠그고 실제 잔액을 읽는다 (트랜잭션의 첫 문장, 출금할 때까지 다른 출금은 기다린다)
+        // 캐시에서 읽은 계좌가 그 사이 삭제되었으면 캐시를 지우고 계좌 없음으로 처리한다
+        long available = ledgerService.lockAvailableBalance(sender.getId())
+                .orElseThrow(() -> senderDeleted(sender));
+
+        long total = 0;
+        if (mode == BulkTransferMode.BEST_EFFORT) {
+            // 잠근 잔액 안에서 요청 순서대로 들어가는 항목만 처리 (출금은 실패하지 않는다)
+            for (int i = 0; i < items.size(); i++) {
+                if (reasons[i] == null) {
+                    long amount = items.get(i).getAmount();
+                    if (amount > available - total) {
+                        reasons[i] = INSUFFICIENT_BALANCE;
+                    } else {
+                        total += amount;
+                    }
+                }
+            }
+            if (Arrays.asList(reasons).contains(INSUFFICIENT_BALANCE)) {
+                transactionMetrics.insufficientBalance("bulk_transfer");
+            }
+        } else {
+            try {
+                for (BulkTransferRequest.Item item : items) {
+                    total = Math.addExact(total, item.getAmount());
+                }
+            } catch (ArithmeticException e) {
+                total = Long.MAX_VALUE;
+            }
+            if (total > available) {
+                transactionMetrics.insufficientBalance("bulk_transfer");
+                throw new InsufficientBalanceException(INSUFFICIENT_BALANCE);
+            }
+        }
+
+        Transaction[] transactions = new Transaction[items.size()];
+        if (total == 0) {
+            return toResponse(sender.getId(), mode, items, reasons, transactions, 0L, available);
+        }
+
+        // 보내는 계좌는 합계로 한 번만 출금
+        if (accountRepository.withdraw(sender.getId(), total) != 1) {
+            throw senderDeleted(sender);
+        }
+
+        // 거래 생성 (각 거래의 잔액은 요청 순서대로 한 건씩 출금했을 때의 잔액)
+        long balance = available - total;
+        long running = balance + total;
+        Account senderAccount = accountRepository.getReferenceById(sender.getId());
+        List<Transaction> toSave = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (reasons[i] != null) {
+                continue;
+            }
+            BulkTransferRequest.Item item = items.get(i);
+            running -= item.getAmount();
+            transactions[i] = Transaction.builder()
+                    .senderAccount(senderAccount)
+                    .recipientAccount(accountRepository.getReferenceById(
+                            recipients.get(item.getRecipientAccountNumber()).getId()))
+                    .amount(item.getAmount())
+                    .balance(running)
+                    .type(TransactionType.TRANSFER_OUT)
+                    .status(TransactionStatus.COMPLETED)
+                    .build();
+            toSave.add(transactions[i]);
+        }
+        transactionRepository.saveAll(toSave);
+        dailyAccountStatsService.recordAll(toSave);
+
+        // 받는 계좌 입금은 거래마다 원장에 INSERT (받는 계좌 행은 갱신하지 않는다)
+        ledgerService.creditAll(toSave.stream()
+                .map(t -> LedgerService.entry(t.getRecipientAccount().getId(), t.getId(), t.getAmount()))
+                .toList());
+        transactionMetrics.bulkTransferCommitted(toSave.size());
+
+        return toResponse(sender.getId(), mode, items, reasons, transactions, total, balance);
+    }
+
+    private AccountNotFoundException senderDeleted(AccountSummary sender) {
+        accountMetadataCache.evict(sender.getId(), sender.getAccountNumber());
+        return new AccountNotFoundException("송금 계좌가 존재하지 않습니다.");
+    }
+
+    private BulkTransferResponse toResponse(Long senderId,
+                                            BulkTransferMode mode,
+                                            List<BulkTransferRequest.Item> items,
+                                            String[] reasons,
+                                            Transaction[] transactions,
+                                            long total,
+                                            Long balance) {
+        List<BulkTransferResponse.Result> results = new ArrayList<>(items.size());
+        int completed = 0;
+        for (int i = 0; i < items.size(); i++) {
+            BulkTransferRequest.Item item = items.get(i);
+            boolean done = transactions[i] != null;
+            completed += done ? 1 : 0;
+            results.add(BulkTransferResponse.Result.builder()
+                    .index(i)
+                    .recipientAccountNumber(item.getRecipientAccountNumber())
+                    .amount(item.getAmount())
+                    .status(done ? TransactionStatus.COMPLETED : TransactionStatus.FAILED)
+                    .transactionId(done ? transactions[i].getId() : null)
+                    .reason(reasons[i])
+                    .build());
+        }
+        return BulkTransferResponse.builder()
+                .senderAccountId(senderId)
+                .mode(mode)
+                .completedCount(completed)
+                .failedCount(items.size() - completed)
+                .totalAmount(total)
+                .balance(balance)
+                .results(results)
+                .build();
+    }
+}
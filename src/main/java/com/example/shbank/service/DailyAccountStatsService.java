@@ -0,0 +1,170 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.transaction.DailyAccountStatsRow;
+import com.example.shbank.dto.transaction.TransactionStatsResponse;
+import com.example.shbank.entity.DailyAccountStats;
+import com.example.shbank.entity.DailyAccountStatsDelta;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.StatsPeriod;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.DailyAccountStatsDeltaRepository;
+import com.example.shbank.repository.DailyAccountStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 계좌별 일별 입출금 집계
+// 거래를 저장하는 트랜잭션에서 계좌/날짜별 증분을 daily_account_stats_deltas 에 INSERT 하고 (record, recordAll),
+// rollUp 이 주기적으로 증분을 daily_account_stats 에 더한 뒤 지운다 (LedgerService 의 입금 원장과 같은 방식).
+// 같은 트랜잭션에서 집계 행을 바로 갱신하면 입금이 몰리는 계좌의 집계 행에서 다시 잠금을 기다리게 되므로 INSERT 만 한다.
+// 거래 행을 만드는 경로(즉시/예약 송금, 카드 결제, 이체 엔진, 일괄 이체, 비동기 정산)가 모두 record 를 부른다.
+// 예약 송금 실행/취소, 거래 보관은 거래 행을 새로 만들지 않고 합계 기준(유형별, 상태 무관)도 바꾸지 않으므로 집계와 상관없다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyAccountStatsService {
+
+    private static final Comparator<DailyAccountStats.Key> KEY_ORDER =
+            Comparator.comparing(DailyAccountStats.Key::getAccountId).thenComparing(DailyAccountStats.Key::getStatsDate);
+
+    private final DailyAccountStatsRepository dailyAccountStatsRepository;
+    private final DailyAccountStatsDeltaRepository dailyAccountStatsDeltaRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 한 트랜잭션에서 더하는 증분 건수, 한 번 실행할 때 최대 트랜잭션 수
+    @Value("${account-stats.rollup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${account-stats.rollup.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    // 거래 증분 기록 (호출한 트랜잭션과 함께 커밋된다, 거래를 저장해 거래일시가 정해진 뒤 호출)
+    public void record(Transaction transaction) {
+        recordAll(List.of(transaction));
+    }
+
+    // 여러 거래 증분 기록 (같은 계좌/날짜는 한 행으로 합치고, ID 를 시퀀스에서 미리 받으므로 INSERT 가 JDBC batch 로 묶인다)
+    // 거래 합계 조회와 같은 기준: 보낸 계좌와 받은 계좌에 거래 유형별로 더한다 (자기 계좌로 보낸 거래는 한 번만)
+    public void recordAll(Collection<Transaction> transactions) {
+        Map<DailyAccountStats.Key, long[]> totals = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            LocalDate date = transaction.getTransactionDate().toLocalDate();
+            Long senderId = transaction.getSenderAccount().getId();
+            add(totals, senderId, date, transaction);
+            if (transaction.getRecipientAccount() != null
+                    && !transaction.getRecipientAccount().getId().equals(senderId)) {
+                add(totals, transaction.getRecipientAccount().getId(), date, transaction);
+            }
+        }
+
+        List<DailyAccountStatsDelta> deltas = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> deltas.add(DailyAccountStatsDelta.builder()
+                .accountId(key.getAccountId())
+                .statsDate(key.getStatsDate())
+                .amountIn(total[0])
+                .amountOut(total[1])
+                .transactionCount(total[2])
+                .build()));
+        if (!deltas.isEmpty()) {
+            dailyAccountStatsDeltaRepository.saveAll(deltas);
+        }
+    }
+
+    private static void add(Map<DailyAccountStats.Key, long[]> totals, Long accountId, LocalDate date,
+                            Transaction transaction) {
+        long[] total = totals.computeIfAbsent(new DailyAccountStats.Key(accountId, date), key -> new long[3]);
+        total[transaction.getType() == TransactionType.TRANSFER_IN ? 0 : 1] += transaction.getAmount();
+        total[2]++;
+    }
+
+    // start 부터의 합계를 일별 집계로 낼 수 있는지 (시작이 없거나 자정이어서 하루 단위로 끊어지는 범위)
+    public boolean covers(LocalDateTime start) {
+        return start == null || start.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    // 계좌의 날짜별 집계 (from, to 포함, null 이면 그쪽 제한 없음, 날짜순)
+    public List<DailyAccountStatsRow> daily(Long accountId, LocalDate from, LocalDate to) {
+        return dailyAccountStatsRepository.findDaily(accountId, from, to);
+    }
+
+    // 날짜별 집계를 기간 단위로 묶은 통계 (거래가 없는 기간은 빠진다, 기간순)
+    public List<TransactionStatsResponse> stats(Long accountId, StatsPeriod period, LocalDate from, LocalDate to) {
+        Map<LocalDate, TransactionStatsResponse> stats = new LinkedHashMap<>();
+        for (DailyAccountStatsRow row : daily(accountId, from, to)) {
+            LocalDate periodStart = switch (period) {
+                case DAY -> row.getStatsDate();
+                case MONTH -> row.getStatsDate().withDayOfMonth(1);
+                case YEAR -> row.getStatsDate().withDayOfYear(1);
+            };
+            TransactionStatsResponse stat = stats.computeIfAbsent(periodStart, date -> TransactionStatsResponse.builder()
+                    .periodStart(date)
+                    .totalIn(0L)
+                    .totalOut(0L)
+                    .netChange(0L)
+                    .transactionCount(0L)
+                    .build());
+            stat.setTotalIn(stat.getTotalIn() + row.getTotalIn());
+            stat.setTotalOut(stat.getTotalOut() + row.getTotalOut());
+            stat.setNetChange(stat.getTotalIn() - stat.getTotalOut());
+            stat.setTransactionCount(stat.getTransactionCount() + row.getTransactionCount());
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    @Scheduled(fixedDelayString = "${account-stats.rollup.interval-ms:1000}")
+    public void poll() {
+        rollUp();
+    }
+
+    // 쌓인 증분을 일별 집계에 더한다 (더한 증분 건수 반환)
+    public int rollUp() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer rolledUp = new TransactionTemplate(transactionManager).execute(status -> rollUpBatch());
+            total += rolledUp;
+            if (rolledUp < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("일별 집계 증분 {}건 반영", total);
+        }
+        return total;
+    }
+
+    private int rollUpBatch() {
+        List<DailyAccountStatsDelta> deltas = dailyAccountStatsDeltaRepository.lockBatch(batchSize);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 인스턴스가 같은 집계 행을 갱신해도 교착되지 않도록 (계좌, 날짜) 순서로 더한다
+        Map<DailyAccountStats.Key, long[]> totals = new TreeMap<>(KEY_ORDER);
+        for (DailyAccountStatsDelta delta : deltas) {
+            long[] total = totals.computeIfAbsent(new DailyAccountStats.Key(delta.getAccountId(), delta.getStatsDate()),
+                    key -> new long[3]);
+            total[0] += delta.getAmountIn();
+            total[1] += delta.getAmountOut();
+            total[2] += delta.getTransactionCount();
+        }
+        totals.forEach((key, total) ->
+                dailyAccountStatsRepository.add(key.getAccountId(), key.getStatsDate(), total[0], total[1], total[2]));
+        dailyAccountStatsDeltaRepository.deleteByIdIn(deltas.stream().map(DailyAccountStatsDelta::getId).toList());
+        return deltas.size();
+    }
+}
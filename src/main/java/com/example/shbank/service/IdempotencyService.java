@@ -0,0 +1,181 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.IdempotencyRecord;
+import com.example.shbank.exception.transaction.IdempotencyConflictException;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Idempotency-Key 로 같은 요청이 두 번 실행되지 않도록 한다 (이체, 일괄 이체, 카드 결제)
+// 1. 처리한 키면 저장해 둔 첫 응답을 그대로 반환 (Redis, 없으면 DB)
+// 2. 같은 키로 처리 중인 요청이 있으면 Redis 잠금으로 막아 DB 까지 가지 않는다
+// 3. 처음 요청이면 거래와 같은 트랜잭션에서 응답을 DB 에 저장하고, 커밋 후 Redis 에 올린다
+// Redis 장애 시에는 DB 의 키 PK 로만 중복을 막는다 (동시에 들어온 요청은 먼저 커밋된 응답을 반환)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String RESPONSE_PREFIX = "idempotency:";
+    private static final String LOCK_PREFIX = "idempotency-lock:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.lock-timeout-ms:30000}")
+    private long lockTimeoutMillis;
+
+    // request 는 요청 내용을 나타내는 문자열 (같은 키로 다른 요청이 오면 거절)
+    public TransactionResponse execute(Long userId, String idempotencyKey, String request,
+                                       Supplier<TransactionResponse> work) {
+        return execute(userId, idempotencyKey, request, TransactionResponse.class, work);
+    }
+
+    // 응답 타입이 TransactionResponse 가 아닌 요청용 (일괄 이체 등, 저장된 응답을 responseType 으로 읽는다)
+    public <T> T execute(Long userId, String idempotencyKey, String request,
+                         Class<T> responseType, Supplier<T> work) {
+        if (idempotencyKey == null) {
+            return work.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String key = userId + ":" + idempotencyKey;
+        String requestHash = DigestUtils.md5DigestAsHex(request.getBytes(StandardCharsets.UTF_8));
+
+        String cached = redisGet(RESPONSE_PREFIX + key);
+        if (cached != null) {
+            int idx = cached.indexOf(':');
+            return replay(cached.substring(0, idx), cached.substring(idx + 1), requestHash, responseType);
+        }
+
+        Boolean locked = redisSetIfAbsent(LOCK_PREFIX + key, requestHash, lockTimeoutMillis);
+        if (Boolean.FALSE.equals(locked)) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key 로 처리 중인 요청이 있습니다.");
+        }
+
+        try {
+            // Redis 에서 만료/유실되었어도 DB 에 남아 있으면 그 응답을 반환
+            Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(key);
+            if (stored.isPresent()) {
+                IdempotencyRecord record = stored.get();
+                cache(key, record.getRequestHash(), record.getResponse());
+                return replay(record.getRequestHash(), record.getResponse(), requestHash, responseType);
+            }
+
+            T response;
+            String json;
+            try {
+                response = new TransactionTemplate(transactionManager).execute(status -> {
+                    T result = work.get();
+                    idempotencyRecordRepository.insert(key, requestHash, toJson(result), LocalDateTime.now());
+                    return result;
+                });
+                json = toJson(response);
+            } catch (DataIntegrityViolationException e) {
+                // 잠금 없이 같은 키가 동시에 들어와 먼저 커밋된 요청이 있으면 이 요청은 롤백되고 그 응답을 반환
+                IdempotencyRecord winner = idempotencyRecordRepository.findById(key).orElseThrow(() -> e);
+                return replay(winner.getRequestHash(), winner.getResponse(), requestHash, responseType);
+            }
+
+            cache(key, requestHash, json);
+            return response;
+        } finally {
+            if (Boolean.TRUE.equals(locked)) {
+                redisDelete(LOCK_PREFIX + key);
+            }
+        }
+    }
+
+    // 보관 기간이 지난 키 삭제 (매일 새벽)
+    @Scheduled(cron = "${idempotency.purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(ttlHours));
+    }
+
+    private <T> T replay(String storedHash, String json, String requestHash, Class<T> responseType) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return objectMapper.readValue(json, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private void cache(String key, String requestHash, String json) {
+        redisSet(RESPONSE_PREFIX + key, requestHash + ":" + json, TimeUnit.HOURS.toMillis(ttlHours));
+    }
+
+    // Redis 호출은 실패해도 요청을 막지 않는다 (DB 가 기준)
+    private String redisGet(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 잠금 성공 true, 이미 잠겨 있으면 false, Redis 장애면 null
+    private Boolean redisSetIfAbsent(String key, String value, long timeoutMillis) {
+        try {
+            return redisTemplate.opsForValue().setIfAbsent(key, value, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Redis 잠금 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String key, String value, long timeoutMillis) {
+        try {
+            redisTemplate.opsForValue().set(key, value, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void redisDelete(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Redis 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
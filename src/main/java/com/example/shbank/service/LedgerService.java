@@ -0,0 +1,135 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.PendingCredit;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.LedgerEntry;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 입금 원장과 잔액 스냅샷
+// 입금은 계좌 행을 갱신하지 않고 ledger_entries 에 INSERT 한다 (입금이 몰리는 계좌도 행 잠금을 기다리지 않는다).
+// 실제 잔액 = accounts.balance(스냅샷) + 반영되지 않은 입금 합계
+// 출금은 계좌 행을 먼저 잠근 뒤 반영되지 않은 입금을 잠그지 않고 읽어 잔액을 확인한다 (lockAvailableBalance).
+// (잔액 부족 확인은 한 곳에서 직렬화되어야 하므로 출금까지 INSERT 로 바꾸지는 않는다)
+// compact 가 주기적으로 계좌 행을 잠그고 입금 합계를 스냅샷에 더한 뒤 원장 행을 compacted 로 표시한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final AccountRepository accountRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 한 트랜잭션에서 잠그는 계좌 수 / 반영하는 입금 건수, 한 번 실행할 때 최대 트랜잭션 수
+    @Value("${ledger.compact.account-batch-size:200}")
+    private int accountBatchSize;
+
+    @Value("${ledger.compact.entry-batch-size:1000}")
+    private int entryBatchSize;
+
+    @Value("${ledger.compact.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    // 입금 기록 (호출한 트랜잭션과 함께 커밋된다)
+    public void credit(Long accountId, Long transactionId, long amount) {
+        ledgerEntryRepository.save(entry(accountId, transactionId, amount));
+    }
+
+    // 여러 건 입금 기록 (ID 를 시퀀스에서 미리 받으므로 INSERT 가 JDBC batch 로 묶인다)
+    public void creditAll(List<LedgerEntry> entries) {
+        if (!entries.isEmpty()) {
+            ledgerEntryRepository.saveAll(entries);
+        }
+    }
+
+    public static LedgerEntry entry(Long accountId, Long transactionId, long amount) {
+        return LedgerEntry.builder()
+                .accountId(accountId)
+                .transactionId(transactionId)
+                .amount(amount)
+                .build();
+    }
+
+    // 계좌별 반영되지 않은 입금 합계 (입금이 없는 계좌는 0)
+    public Map<Long, Long> pendingCredits(Collection<Long> accountIds) {
+        Map<Long, Long> credits = new HashMap<>();
+        accountIds.forEach(id -> credits.put(id, 0L));
+        if (!accountIds.isEmpty()) {
+            for (PendingCredit credit : ledgerEntryRepository.sumPendingByAccountIdIn(accountIds)) {
+                credits.put(credit.getAccountId(), credit.getAmount());
+            }
+        }
+        return credits;
+    }
+
+    // 출금할 계좌의 실제 잔액 (계좌 행을 FOR UPDATE 로 잠근 뒤 원장은 일반 SELECT 로 읽는다, 계좌가 없으면 empty)
+    // 원장을 잠그지 않으므로 입금 INSERT 와 서로 기다리지 않는다. compact 도 계좌 행부터 잠그므로 잠근 동안 합계가 바뀌지 않는다.
+    // 일반 SELECT 는 트랜잭션의 첫 일반 SELECT 시점을 보므로, 계좌 행을 잠그기 전에 다른 일반 SELECT 를 하지 않아야
+    // 그 사이 커밋된 compact 를 본다 (이체 엔진, 비동기 정산과 같은 순서).
+    public Optional<Long> lockAvailableBalance(Long accountId) {
+        return accountRepository.lockBalanceById(accountId)
+                .map(balance -> balance + pendingCredits(List.of(accountId)).get(accountId));
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.compact.interval-ms:1000}")
+    public void poll() {
+        compact();
+    }
+
+    // 반영되지 않은 입금을 스냅샷에 반영 (반영한 건수 반환)
+    public int compact() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer compacted = new TransactionTemplate(transactionManager).execute(status -> compactBatch());
+            total += compacted;
+            if (compacted < entryBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("입금 원장 {}건 스냅샷 반영", total);
+        }
+        return total;
+    }
+
+    private int compactBatch() {
+        List<Long> accountIds = ledgerEntryRepository.findPendingAccountIds(Limit.of(accountBatchSize));
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+
+        // 출금과 같은 순서(계좌 행 -> 원장)로 잠근다. 그동안 그 계좌의 출금은 기다리고, 다른 계좌는 막지 않는다.
+        Map<Long, Account> accounts = new HashMap<>();
+        accountRepository.findAllByIdInForUpdate(accountIds).forEach(a -> accounts.put(a.getId(), a));
+        List<LedgerEntry> entries = ledgerEntryRepository.findPendingByAccountIdInForUpdate(accountIds,
+                Limit.of(entryBatchSize));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        for (LedgerEntry entry : entries) {
+            // 삭제된 계좌의 입금은 반영할 곳이 없지만, 표시해 두어야 다음 배치에서 다시 고르지 않는다
+            Account account = accounts.get(entry.getAccountId());
+            if (account != null) {
+                account.deposit(entry.getAmount());
+            }
+        }
+        ledgerEntryRepository.markCompacted(entries.stream().map(LedgerEntry::getId).toList());
+        return entries.size();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.transaction.DueScheduledId;
+import com.example.shbank.dto.transaction.DueScheduledTransfer;
+import com.example.shbank.entity.LedgerEntry;
+import com.example.shbank.enums.AccountStatus;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 예약 송금 실행기
+// 보낸 계좌 출금은 예약할 때 이미 했으므로, 실행 시에는 받는 계좌에 입금하고 COMPLETED 로 바꾼다.
+// 받는 계좌가 해지되었으면 보낸 계좌로 돌려주고 FAILED 로 바꾼다.
+// 배치마다 트랜잭션 하나로 처리하고, SKIP LOCKED 로 잠근 거래만 처리하므로 여러 인스턴스가 동시에 돌아도 두 번 실행되지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledTransferExecutor {
+
+    private final TransactionRepository transactionRepository;
+    private final LedgerService ledgerService;
+    private final ScheduledTransferMetrics metrics;
+    private final TransactionJournal transactionJournal;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scheduled-transfer.batch-size:100}")
+    private int batchSize;
+
+    @Value("${scheduled-transfer.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    // 전체 파티션 수와 이 인스턴스가 맡는 파티션 (보낸 계좌 ID % partitionCount)
+    @Value("${scheduled-transfer.partition-count:1}")
+    private int partitionCount;
+
+    @Value("${scheduled-transfer.partition-index:0}")
+    private int partitionIndex;
+
+    @Scheduled(fixedDelayString = "${scheduled-transfer.poll-interval-ms:30000}")
+    public void poll() {
+        executeDue(LocalDateTime.now());
+    }
+
+    // now 까지 예약된 송금을 배치 단위로 실행 (처리한 건수 반환)
+    // 타이밍 휠이 놓친 송금(다른 인스턴스에서 방금 예약된 송금, 재시작 전 지난 송금 등)을 처리하는 주기 점검
+    public int executeDue(LocalDateTime now) {
+        long started = System.nanoTime();
+        BatchResult total = new BatchResult();
+        // 고른 송금 다음부터 이어서 고른다 (다른 워커가 잡고 있어 건너뛴 송금을 같은 점검에서 다시 고르지 않는다)
+        DueScheduledId last = null;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<DueScheduledId> due = transactionRepository.findDueScheduledIds(now, partitionCount, partitionIndex,
+                    last != null ? last.getScheduleDate() : null, last != null ? last.getId() : null, batchSize);
+            total.add(inTransaction(() -> settle(due.stream().map(DueScheduledId::getId).toList())));
+            if (due.size() < batchSize) {
+                break;
+            }
+            last = due.get(due.size() - 1);
+        }
+
+        long elapsed = System.nanoTime() - started;
+        metrics.record(total.completed, total.failed, total.maxLagMillis, elapsed);
+        if (total.processed() > 0) {
+            log.info("예약 송금 실행: 완료 {}건, 실패 {}건, {}건/초, 최대 지연 {}ms",
+                    total.completed, total.failed, String.format("%.1f", metrics.getLastThroughput()),
+                    total.maxLagMillis);
+        }
+        return total.processed();
+    }
+
+    // 지정한 예약 송금만 실행 (타이밍 휠에서 만료된 송금, 처리한 건수 반환)
+    // 그 사이 취소되었거나 다른 워커가 처리한 송금은 건너뛴다.
+    public int executeIds(List<Long> ids) {
+        long started = System.nanoTime();
+        BatchResult batch = inTransaction(() -> settle(ids));
+        metrics.record(batch.completed, batch.failed, batch.maxLagMillis, System.nanoTime() - started);
+        return batch.processed();
+    }
+
+    private BatchResult inTransaction(Supplier<BatchResult> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private BatchResult settle(List<Long> ids) {
+        BatchResult result = new BatchResult();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        // 입금(환불 포함)은 계좌 행을 갱신하지 않고 거래마다 원장에 INSERT 한다
+        List<LedgerEntry> credits = new ArrayList<>();
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        long executedAt = System.currentTimeMillis();
+        for (DueScheduledTransfer due : transactionRepository.lockDueScheduledByIdIn(ids)) {
+            if (due.getRecipientStatus() == AccountStatus.ACTIVE) {
+                credits.add(LedgerService.entry(due.getRecipientAccountId(), due.getId(), due.getAmount()));
+                completedIds.add(due.getId());
+                transactionJournal.appendAfterCommit(new TransactionJournal.Entry(due.getId(),
+                        due.getSenderAccountId(), due.getRecipientAccountId(), due.getAmount(), executedAt,
+                        due.getType(), TransactionStatus.COMPLETED));
+            } else {
+                credits.add(LedgerService.entry(due.getSenderAccountId(), due.getId(), due.getAmount()));
+                failedIds.add(due.getId());
+            }
+            long lag = Duration.between(due.getScheduleDate(), LocalDateTime.now()).toMillis();
+            result.maxLagMillis = Math.max(result.maxLagMillis, lag);
+        }
+
+        ledgerService.creditAll(credits);
+        if (!completedIds.isEmpty()) {
+            transactionRepository.updateStatusByIdIn(completedIds, TransactionStatus.COMPLETED);
+        }
+        if (!failedIds.isEmpty()) {
+            transactionRepository.updateStatusByIdIn(failedIds, TransactionStatus.FAILED);
+        }
+        result.completed = completedIds.size();
+        result.failed = failedIds.size();
+        return result;
+    }
+
+    private static class BatchResult {
+        private int completed;
+        private int failed;
+        private long maxLagMillis;
+
+        private int processed() {
+            return completed + failed;
+        }
+
+        private void add(BatchResult other) {
+            completed += other.completed;
+            failed += other.failed;
+            maxLagMillis = Math.max(maxLagMillis, other.maxLagMillis);
+        }
+    }
+}
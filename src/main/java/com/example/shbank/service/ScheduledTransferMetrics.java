@@ -0,0 +1,48 @@
+package com.example.shbank.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 예약 송금 실행 지표
+// 누적 처리 건수와, 마지막 실행 주기의 처리량(건/초)과 예약 시각 대비 최대 지연(ms)
+// MeterBinder 로 등록되어 shbank.scheduled.transfers.* 로 노출된다
+@Component
+@Getter
+public class ScheduledTransferMetrics implements MeterBinder {
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile double lastThroughput;
+    private volatile long lastMaxLagMillis;
+
+    public void record(int completedCount, int failedCount, long maxLagMillis, long elapsedNanos) {
+        completed.add(completedCount);
+        failed.add(failedCount);
+        int processed = completedCount + failedCount;
+        lastThroughput = elapsedNanos > 0 ? processed * 1e9 / elapsedNanos : 0;
+        lastMaxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("shbank.scheduled.transfers", completed, LongAdder::doubleValue)
+                .tag("result", "completed")
+                .register(registry);
+        FunctionCounter.builder("shbank.scheduled.transfers", failed, LongAdder::doubleValue)
+                .tag("result", "failed")
+                .register(registry);
+        Gauge.builder("shbank.scheduled.transfers.throughput", this, ScheduledTransferMetrics::getLastThroughput)
+                .description("마지막 실행 주기의 초당 처리 건수")
+                .register(registry);
+        TimeGauge.builder("shbank.scheduled.transfers.max.lag", this, TimeUnit.MILLISECONDS,
+                        ScheduledTransferMetrics::getLastMaxLagMillis)
+                .register(registry);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.transaction.ScheduledTransferDeadline;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.util.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 가까운 시각의 예약 송금을 메모리 타이밍 휠에 올려 두고 실행 시각에 바로 실행한다.
+// 앞으로 horizon 분 안에 실행될 송금을 주기적으로 이어서 적재하고(DB 는 예약 시각 범위만 조회),
+// 휠에서 만료된 송금은 배치로 나눠 ScheduledTransferExecutor 로 실행한다.
+// DB 가 기준이므로 재시작하면 현재 시각부터 다시 적재하고, 휠이 놓친 송금은 ScheduledTransferExecutor 주기 점검이 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledTransferWheel {
+
+    private static final int WHEEL_SIZE = 64;
+
+    private final TransactionRepository transactionRepository;
+    private final ScheduledTransferExecutor scheduledTransferExecutor;
+
+    @Value("${scheduled-transfer.wheel.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scheduled-transfer.wheel.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${scheduled-transfer.wheel.horizon-minutes:10}")
+    private long horizonMinutes;
+
+    @Value("${scheduled-transfer.wheel.workers:4}")
+    private int workers;
+
+    @Value("${scheduled-transfer.batch-size:100}")
+    private int batchSize;
+
+    @Value("${scheduled-transfer.partition-count:1}")
+    private int partitionCount;
+
+    @Value("${scheduled-transfer.partition-index:0}")
+    private int partitionIndex;
+
+    private volatile TimingWheel<Long> wheel;
+    private volatile LocalDateTime loadedUntil;
+    private ScheduledExecutorService ticker;
+    private ExecutorService settlers;
+
+    // 다음 horizon 분 동안 실행될 예약 송금을 이어서 적재 (처음 호출 시 휠 시작)
+    @Scheduled(fixedDelayString = "${scheduled-transfer.wheel.load-interval-ms:60000}")
+    public synchronized void load() {
+        if (!enabled) {
+            return;
+        }
+        if (wheel == null) {
+            start();
+        }
+
+        LocalDateTime from = loadedUntil != null ? loadedUntil : LocalDateTime.now();
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        List<ScheduledTransferDeadline> deadlines =
+                transactionRepository.findScheduledDeadlines(from, until, partitionCount, partitionIndex);
+        for (ScheduledTransferDeadline deadline : deadlines) {
+            wheel.add(deadline.getId(), toEpochMillis(deadline.getScheduleDate()));
+        }
+        loadedUntil = until;
+
+        if (!deadlines.isEmpty()) {
+            log.info("예약 송금 {}건 적재 (~{}), 대기 {}건", deadlines.size(), until, wheel.size());
+        }
+    }
+
+    // 새로 예약된 송금이 이미 적재한 범위 안이면 커밋 후 휠에 추가 (범위 밖이면 다음 적재 때 올라간다)
+    public void scheduleAfterCommit(Long transactionId, Long senderAccountId, LocalDateTime scheduleDate) {
+        LocalDateTime until = loadedUntil;
+        if (wheel == null || until == null || scheduleDate.isAfter(until)
+                || senderAccountId % partitionCount != partitionIndex) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wheel.add(transactionId, toEpochMillis(scheduleDate));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wheel.add(transactionId, toEpochMillis(scheduleDate));
+            }
+        });
+    }
+
+    private void start() {
+        // 적재 주기가 늦어져도 넘치지 않도록 horizon 의 두 배까지 담을 수 있는 단계 수로 만든다
+        long maxDelay = TimeUnit.MINUTES.toMillis(horizonMinutes * 2);
+        int levels = 1;
+        for (long span = tickMillis * (WHEEL_SIZE - 1); span < maxDelay; span *= WHEEL_SIZE) {
+            levels++;
+        }
+        wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, levels, System.currentTimeMillis());
+
+        settlers = Executors.newFixedThreadPool(workers);
+        ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void tick() {
+        try {
+            List<Long> due = wheel.advance(System.currentTimeMillis());
+            for (int i = 0; i < due.size(); i += batchSize) {
+                List<Long> batch = List.copyOf(due.subList(i, Math.min(i + batchSize, due.size())));
+                settlers.execute(() -> settle(batch));
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나면 scheduleAtFixedRate 가 멈추므로 여기서 끊는다
+            log.error("타이밍 휠 진행 실패", e);
+        }
+    }
+
+    private void settle(List<Long> ids) {
+        try {
+            scheduledTransferExecutor.executeIds(ids);
+        } catch (RuntimeException e) {
+            // 처리하지 못한 송금은 SCHEDULED 로 남아 주기 점검에서 다시 실행된다
+            log.warn("예약 송금 {}건 실행 실패", ids.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            settlers.shutdown();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.shbank.service;
+
+import com.example.shbank.repository.ArchivedTransactionRepository;
+import com.example.shbank.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+// 거래 보관 (transaction-archive.enabled=true 일 때)
+// 보관 기준일(이번 달 1일에서 retention-months 개월 전) 이전 거래를 transactions 에서 transactions_archive 로 옮긴다.
+// 월 단위로 넘기므로 보관 테이블의 월별 파티션과 경계가 같고, transactions 에는 최근 retention-months 개월치만 남는다.
+// 옮기기 전에 p_future 를 나눠 기준일 이전 달까지 월별 파티션을 만든다 (ensurePartitions).
+// 배치마다 트랜잭션 하나로 복사 -> 삭제하고, SKIP LOCKED 로 잠근 거래만 옮기므로 여러 인스턴스가 동시에 돌아도 된다.
+// 예약 중(SCHEDULED)인 거래는 실행되거나 취소될 때까지 옮기지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionArchiver {
+
+    // 월별 파티션 이름 (p2025_01 은 2025-02-01 미만), 나머지를 받는 마지막 파티션
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuu_MM");
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transaction-archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${transaction-archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${transaction-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${transaction-archive.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+
+    // 보관 기준일 (이 시각 이전 거래만 보관 테이블에 있을 수 있다, 시간이 지나면 앞으로만 움직인다)
+    public LocalDateTime cutoff() {
+        return LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    // start 부터의 조회가 보관 테이블도 봐야 하는지
+    public boolean covers(LocalDateTime start) {
+        return enabled && (start == null || start.isBefore(cutoff()));
+    }
+
+    @Scheduled(cron = "${transaction-archive.cron:0 30 3 * * *}")
+    public void poll() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    // 기준일 이전 거래를 옮긴다 (옮긴 건수 반환)
+    public int archive() {
+        LocalDateTime cutoff = cutoff();
+        ensurePartitions(cutoff);
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = new TransactionTemplate(transactionManager).execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("거래 {}건 보관 ({} 이전)", total, cutoff);
+        }
+        return total;
+    }
+
+    // 기준일 이전 달까지 월별 파티션이 있도록 p_future 를 나눈다 (만든 파티션 수 반환)
+    // 마지막 월별 파티션 다음 달부터, 월별 파티션이 하나도 없으면 가장 오래된 거래의 달부터 만든다.
+    // 파티션이 없는 테이블(Hibernate 가 만든 테이블 등)이면 건너뛴다.
+    // 여러 인스턴스가 동시에 나누다 실패해도 보관은 계속한다 (나누지 못한 달은 p_future 에 들어가고 다음 실행에서 옮겨진다).
+    public int ensurePartitions(LocalDateTime cutoff) {
+        List<String> partitions;
+        try {
+            partitions = jdbcTemplate.queryForList("""
+                    select p.partition_name from information_schema.partitions p
+                    where p.table_schema = database() and p.table_name = 'transactions_archive'
+                      and p.partition_name is not null
+                    """, String.class);
+        } catch (DataAccessException e) {
+            log.warn("보관 테이블 파티션 조회 실패", e);
+            return 0;
+        }
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            return 0;
+        }
+
+        YearMonth from = partitions.stream()
+                .filter(name -> !name.equals(FUTURE_PARTITION))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME).plusMonths(1))
+                .max(Comparator.naturalOrder())
+                .orElseGet(() -> Stream.of(transactionRepository.findOldestTransactionDate(),
+                                archivedTransactionRepository.findOldestTransactionDate())
+                        .filter(Objects::nonNull)
+                        .min(Comparator.naturalOrder())
+                        .map(YearMonth::from)
+                        .orElse(null));
+        YearMonth until = YearMonth.from(cutoff);
+        if (from == null || !from.isBefore(until)) {
+            return 0;
+        }
+
+        StringJoiner added = new StringJoiner(", ");
+        int count = 0;
+        for (YearMonth month = from; month.isBefore(until); month = month.plusMonths(1)) {
+            added.add("partition " + month.format(PARTITION_NAME)
+                    + " values less than ('" + month.plusMonths(1).atDay(1) + "')");
+            count++;
+        }
+        try {
+            jdbcTemplate.execute("alter table transactions_archive reorganize partition " + FUTURE_PARTITION
+                    + " into (" + added + ", partition " + FUTURE_PARTITION + " values less than (maxvalue))");
+        } catch (DataAccessException e) {
+            log.warn("보관 테이블 파티션 추가 실패 ({} ~ {})", from, until.minusMonths(1), e);
+            return 0;
+        }
+        log.info("보관 테이블 파티션 {}개 추가 ({} ~ {})", count, from, until.minusMonths(1));
+        return count;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = transactionRepository.lockArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTransactionRepository.copyFromTransactions(ids);
+        transactionRepository.deleteCardPaymentsByIdIn(ids);
+        transactionRepository.deleteScheduledTransfersByIdIn(ids);
+        transactionRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+}
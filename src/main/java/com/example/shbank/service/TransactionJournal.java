@@ -0,0 +1,178 @@
+package com.example.shbank.service;
+
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.util.LongLongHashMap;
+import com.example.shbank.util.MappedJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 거래 저널 (journal.enabled=true 일 때)
+// 정산된(COMPLETED) 거래를 커밋 후 로컬 파일(MappedJournal)에 고정 길이 레코드로 덧붙인다.
+// 즉시 이체/카드 결제/일괄/비동기 이체는 거래 INSERT 때(TransactionJournalListener), 예약 송금은 실행될 때 기록한다.
+// transactions 테이블을 조회하지 않고 처음부터 다시 읽어 계좌별 입출금 합계를 다시 만들거나 분석용으로 흘려보낼 수 있다.
+// 기준 기록은 계속 DB 다. 저널 기록이 실패해도 이미 커밋된 거래는 되돌리지 않고 로그만 남긴다.
+// 인스턴스마다 자기가 처리한 거래만 기록하므로, 여러 인스턴스면 저널을 모두 합쳐 읽어야 한다.
+@Slf4j
+@Component
+public class TransactionJournal {
+
+    // 레코드 본문: 거래 ID, 보내는 계좌, 받는 계좌(없으면 0), 금액, 시각(epoch ms) 8바이트씩 + 유형, 상태 1바이트씩 + 채움 6바이트
+    // 유형/상태는 enum 순서로 저장하므로 enum 에 값을 추가할 때는 끝에만 붙인다
+    private static final int PAYLOAD_SIZE = 48;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    // ALWAYS: 커밋된 트랜잭션마다 fsync, INTERVAL: fsync-interval-ms 마다, NONE: OS 에 맡긴다
+    public enum FsyncPolicy { ALWAYS, INTERVAL, NONE }
+
+    public record Entry(long transactionId, long senderAccountId, long recipientAccountId, long amount,
+                        long timestampMillis, TransactionType type, TransactionStatus status) {
+    }
+
+    @Value("${journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${journal.directory:./journal}")
+    private String directory;
+
+    @Value("${journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${journal.fsync:INTERVAL}")
+    private FsyncPolicy fsyncPolicy;
+
+    private MappedJournal journal;
+
+    @PostConstruct
+    public void open() {
+        if (enabled) {
+            journal = new MappedJournal(Path.of(directory), PAYLOAD_SIZE, segmentSizeMb * 1024 * 1024);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    // 지금 트랜잭션이 커밋되면 기록 (트랜잭션마다 모아 두었다가 한 번에 덧붙인다, 롤백되면 버린다)
+    public void appendAfterCommit(Entry entry) {
+        if (journal == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(List.of(entry));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Entry> pending = (List<Entry>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Entry> entries = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionJournal.this);
+                    if (status == STATUS_COMMITTED) {
+                        append(entries);
+                    }
+                }
+            });
+            pending = entries;
+        }
+        pending.add(entry);
+    }
+
+    public static Entry entryOf(Transaction transaction) {
+        LocalDateTime date = transaction.getTransactionDate() != null ? transaction.getTransactionDate() : LocalDateTime.now();
+        return new Entry(transaction.getId(),
+                transaction.getSenderAccount().getId(),
+                transaction.getRecipientAccount() != null ? transaction.getRecipientAccount().getId() : 0L,
+                transaction.getAmount(),
+                toEpochMillis(date),
+                transaction.getType(),
+                transaction.getStatus());
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Scheduled(fixedDelayString = "${journal.fsync-interval-ms:1000}")
+    public void flush() {
+        if (journal != null && fsyncPolicy == FsyncPolicy.INTERVAL) {
+            journal.force();
+        }
+    }
+
+    // 처음부터 순서대로 읽기 (읽은 레코드 수 반환)
+    public long replay(Consumer<Entry> consumer) {
+        if (journal == null) {
+            throw new IllegalStateException("거래 저널이 꺼져 있습니다.");
+        }
+        return journal.replay(buffer -> consumer.accept(new Entry(
+                buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                TYPES[buffer.get()], STATUSES[buffer.get()])));
+    }
+
+    // 계좌별 입출금 합계 (받은 금액 - 보낸 금액, 저널을 시작한 뒤 정산된 거래 기준)
+    public LongLongHashMap netChangeByAccount() {
+        LongLongHashMap changes = new LongLongHashMap(1024);
+        replay(entry -> {
+            if (entry.status() != TransactionStatus.COMPLETED) {
+                return;
+            }
+            changes.put(entry.senderAccountId(), changes.get(entry.senderAccountId(), 0L) - entry.amount());
+            if (entry.recipientAccountId() != 0) {
+                changes.put(entry.recipientAccountId(), changes.get(entry.recipientAccountId(), 0L) + entry.amount());
+            }
+        });
+        return changes;
+    }
+
+    private void append(List<Entry> entries) {
+        try {
+            for (Entry entry : entries) {
+                journal.append(buffer -> write(buffer, entry));
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                journal.force();
+            }
+        } catch (RuntimeException e) {
+            log.error("거래 저널 기록 실패 ({}건): {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private static void write(ByteBuffer buffer, Entry entry) {
+        buffer.putLong(entry.transactionId())
+                .putLong(entry.senderAccountId())
+                .putLong(entry.recipientAccountId())
+                .putLong(entry.amount())
+                .putLong(entry.timestampMillis())
+                .put((byte) entry.type().ordinal())
+                .put((byte) entry.status().ordinal());
+        buffer.position(buffer.position() + PAYLOAD_SIZE - 42);
+    }
+}
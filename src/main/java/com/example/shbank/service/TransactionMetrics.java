@@ -0,0 +1,85 @@
+package com.example.shbank.service;
+
+import com.example.shbank.enums.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 거래 업무 지표 (Prometheus 에서는 rate() 로 초당 건수를 본다)
+// - shbank.transfers              : 커밋된 이체 건수 (type, mode=immediate/scheduled/bulk/async)
+// - shbank.balance.insufficient   : 잔액 부족으로 거절된 건수 (operation=transfer/bulk_transfer/async_transfer/card_payment)
+// - shbank.card.payments          : 가맹점별 카드 결제 건수 (merchant)
+// 가맹점 이름은 입력값이라 태그 종류가 끝없이 늘지 않도록 max-merchants 개까지만 따로 세고 나머지는 other 로 묶는다
+@Component
+public class TransactionMetrics {
+
+    private static final String OTHER_MERCHANT = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxMerchants;
+    private final Set<String> merchants = ConcurrentHashMap.newKeySet();
+
+    public TransactionMetrics(MeterRegistry meterRegistry,
+                              @Value("${metrics.card-payment.max-merchants:100}") int maxMerchants) {
+        this.meterRegistry = meterRegistry;
+        this.maxMerchants = maxMerchants;
+    }
+
+    public void transferCommitted(TransactionType type, boolean scheduled) {
+        Counter counter = meterRegistry.counter("shbank.transfers",
+                "type", type.name(), "mode", scheduled ? "scheduled" : "immediate");
+        afterCommit(counter::increment);
+    }
+
+    public void asyncTransferCommitted(TransactionType type) {
+        Counter counter = meterRegistry.counter("shbank.transfers", "type", type.name(), "mode", "async");
+        afterCommit(counter::increment);
+    }
+
+    // 일괄 이체는 처리된 항목 수만큼 센다
+    public void bulkTransferCommitted(int count) {
+        Counter counter = meterRegistry.counter("shbank.transfers",
+                "type", TransactionType.TRANSFER_OUT.name(), "mode", "bulk");
+        afterCommit(() -> counter.increment(count));
+    }
+
+    public void insufficientBalance(String operation) {
+        meterRegistry.counter("shbank.balance.insufficient", "operation", operation).increment();
+    }
+
+    public void cardPaymentCommitted(String merchantName) {
+        Counter counter = meterRegistry.counter("shbank.card.payments", "merchant", merchantTag(merchantName));
+        afterCommit(counter::increment);
+    }
+
+    private String merchantTag(String merchantName) {
+        if (merchantName == null || merchantName.isBlank()) {
+            return OTHER_MERCHANT;
+        }
+        // 동시에 들어오면 max-merchants 를 조금 넘을 수 있지만 스레드 수만큼으로 제한된다
+        if (merchants.contains(merchantName) || (merchants.size() < maxMerchants && merchants.add(merchantName))) {
+            return merchantName;
+        }
+        return OTHER_MERCHANT;
+    }
+
+    // 롤백된 거래는 세지 않는다
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
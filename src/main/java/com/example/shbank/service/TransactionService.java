@@ -1,33 +1,68 @@
 package com.example.shbank.service;
 
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.DailyAccountStatsRow;
 import com.example.shbank.dto.transaction.ScheduledTransferResponse;
+import com.example.shbank.dto.transaction.TransactionCursor;
 import com.example.shbank.dto.transaction.TransactionHistoryResponse;
 import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.dto.transaction.TransactionStatsResponse;
+import com.example.shbank.dto.transaction.TransactionTypeTotal;
 import com.example.shbank.entity.Account;
 import com.example.shbank.entity.CardPayment;
 import com.example.shbank.entity.ScheduledTransfer;
 import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.StatsPeriod;
 import com.example.shbank.enums.TransactionStatus;
 import com.example.shbank.enums.TransactionType;
 import com.example.shbank.exception.account.AccountNotFoundException;
 import com.example.shbank.exception.transaction.InsufficientBalanceException;
 import com.example.shbank.mapper.TransactionMapper;
 import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.ArchivedTransactionRepository;
 import com.example.shbank.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
+@Timed("shbank.service")
 @RequiredArgsConstructor
 public class TransactionService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final Comparator<TransactionResponse> HISTORY_ORDER = Comparator
+            .comparing(TransactionResponse::getTransactionDate)
+            .thenComparing(TransactionResponse::getTransactionId)
+            .reversed();
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final TransactionMapper transactionMapper;
+    private final AccountLocker accountLocker;
+    private final ScheduledTransferWheel scheduledTransferWheel;
+    private final TransactionMetrics transactionMetrics;
+    private final AccountMetadataCache accountMetadataCache;
+    private final AccountOwnershipIndex accountOwnershipIndex;
+    private final LedgerService ledgerService;
+    private final TransferEngine transferEngine;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionArchiver transactionArchiver;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final DailyAccountStatsService dailyAccountStatsService;
 
     // 거래 내역 조회 (GET)
     @Transactional(readOnly = true)
@@ -35,72 +70,101 @@ public class TransactionService {
                                                      Long userId,
                                                      TransactionType type,
                                                      LocalDateTime start,
-                                                     LocalDateTime end) {
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
-
-        if (!account.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
+                                                     LocalDateTime end,
+                                                     String cursor,
+                                                     Integer size) {
+        accountOwnershipIndex.checkOwner(accountId, userId);
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TransactionCursor after = cursor == null ? null : TransactionCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<TransactionResponse> transactionResponses = findHistoryPage(accountId, type, start, end, after,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (transactionResponses.size() > pageSize) {
+            transactionResponses = transactionResponses.subList(0, pageSize);
+            TransactionResponse last = transactionResponses.get(pageSize - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getTransactionId()).encode();
         }
-        List<Transaction> transactions;
-
-        boolean hasDate = start != null && end != null;
 
-        if (type == null) { // 전체 거래
-            if (hasDate) {
-                transactions = transactionRepository.findBySenderAccount_IdOrRecipientAccount_IdAndTransactionDateBetween(
-                        account.getId(), account.getId(), start, end);
-            } else {
-                transactions = transactionRepository.findBySenderAccount_IdOrRecipientAccount_Id(
-                        account.getId(), account.getId());
-            }
-        } else { // 특정 거래 유형 (TRANSFER_IN, TRANSFER_OUT)
-            if (hasDate) {
-                transactions = transactionRepository.findBySenderAccount_IdOrRecipientAccount_IdAndTypeAndTransactionDateBetween(
-                        account.getId(), account.getId(), type, start, end);
-            } else {
-                transactions = transactionRepository.findBySenderAccount_IdOrRecipientAccount_IdAndType(
-                        account.getId(), account.getId(), type);
-            }
-        }
+        // 합계는 조회 조건 전체 기준이라 첫 페이지에서만 계산
+        TransactionHistoryResponse.TransactionHistoryResponseBuilder builder = after == null
+                ? summarize(accountId, type, start, end).toBuilder()
+                : TransactionHistoryResponse.builder();
 
-        List<TransactionResponse> transactionResponses = transactions.stream()
-                .map(transactionMapper::toResponse)
-                .toList();
+        return builder
+                .transactions(transactionResponses)
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-        int totalIn = transactions.stream()
-                .filter(t -> t.getType() == TransactionType.TRANSFER_IN)
-                .mapToInt(Transaction::getAmount)
-                .sum();
+    // 거래 합계 조회 (GET, summaryOnly)
+    @Transactional(readOnly = true)
+    public TransactionHistoryResponse getTransactionSummary(Long accountId,
+                                                           Long userId,
+                                                           TransactionType type,
+                                                           LocalDateTime start,
+                                                           LocalDateTime end) {
+        accountOwnershipIndex.checkOwner(accountId, userId);
+        return summarize(accountId, type, start, end);
+    }
 
-        int totalOut = transactions.stream()
-                .filter(t -> t.getType() == TransactionType.TRANSFER_OUT)
-                .mapToInt(Transaction::getAmount)
-                .sum();
+    // 거래 내역 스트리밍 조회 (GET)
+    // 조회한 행을 바로 consumer 로 넘겨 전체 결과를 메모리에 들고 있지 않는다.
+    // 페이지마다 짧은 읽기 전용 트랜잭션으로 읽고 consumer(응답 쓰기)는 트랜잭션 밖에서 부르므로,
+    // 느린 클라이언트가 응답을 받는 동안 커넥션을 잡고 있지 않는다 (keyset 으로 이어 읽어 이미 보낸 행은 다시 보내지 않는다).
+    public void streamTransactionHistory(Long accountId,
+                                         Long userId,
+                                         TransactionType type,
+                                         LocalDateTime start,
+                                         LocalDateTime end,
+                                         Consumer<TransactionResponse> consumer) {
+        accountOwnershipIndex.checkOwner(accountId, userId);
+
+        // 내부적으로 keyset 페이지 단위로 끊어 읽는다 (행은 페이지를 읽는 트랜잭션 안에서 응답 DTO 로 바꾼다)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionCursor after = null;
+        List<TransactionResponse> chunk;
+        do {
+            TransactionCursor cursor = after;
+            chunk = readOnly.execute(status -> findHistoryPage(accountId, type, start, end, cursor, STREAM_CHUNK_SIZE));
+            chunk.forEach(consumer);
+
+            if (!chunk.isEmpty()) {
+                TransactionResponse last = chunk.get(chunk.size() - 1);
+                after = new TransactionCursor(last.getTransactionDate(), last.getTransactionId());
+            }
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
 
-        int netChange = totalIn - totalOut;
+    // 기간별 입출금 통계 (GET, 일별 집계를 월/연 단위로 묶는다, from/to 는 날짜 포함)
+    @Transactional(readOnly = true)
+    public List<TransactionStatsResponse> getTransactionStats(Long accountId,
+                                                              Long userId,
+                                                              StatsPeriod period,
+                                                              LocalDate from,
+                                                              LocalDate to) {
+        accountOwnershipIndex.checkOwner(accountId, userId);
+        return dailyAccountStatsService.stats(accountId, period, from, to);
+    }
 
-        return TransactionHistoryResponse.builder()
-                .totalIn(totalIn)
-                .totalOut(totalOut)
-                .netChange(netChange)
-                .transactions(transactionResponses)
-                .build();
+    // 계좌 소유자 확인
+    @Transactional(readOnly = true)
+    public void checkAccountOwner(Long accountId, Long userId) {
+        accountOwnershipIndex.checkOwner(accountId, userId);
     }
 
     // 예약 송금 목록 조회 (GET)
     @Transactional(readOnly = true)
     public List<ScheduledTransferResponse> getScheduledTransfers(Long accountId, Long userId) {
         // 계좌 검증
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
-
-        if (!account.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
-        }
+        accountOwnershipIndex.checkOwner(accountId, userId);
         // status = SCHEDULED 인 Transaction 조회
         List<Transaction> scheduledTransactions =
-                transactionRepository.findBySenderAccount_IdAndStatus(account.getId(), TransactionStatus.SCHEDULED);
+                transactionRepository.findScheduledBySenderAccountId(accountId, TransactionStatus.SCHEDULED);
 
         // ScheduledTransferResponse DTO로 변환
         return scheduledTransactions.stream()
@@ -110,108 +174,129 @@ public class TransactionService {
     }
 
     // 이체 (즉시/예약 송금) (POST)
-    @Transactional
+    // 예약 송금은 예약 시점에 출금해 두고, 실행 시 입금한다 (취소 시 환불)
+    // 잔액은 계좌 엔티티를 읽지 않고, 잔액만 잠가 읽은 뒤 UPDATE 한 문장으로 차감한다.
+    // 이체 엔진이 켜져 있으면 즉시 송금은 엔진에 넘기고 커밋될 때까지 기다린다 (검증은 호출한 스레드에서).
     public TransactionResponse transfer(Long senderAccountId,
                                         String recipientAccountNumber,
-                                        Integer amount,
+                                        Long amount,
                                         LocalDateTime scheduleDate, // 예약 송금일, null이면 즉시 송금
                                         String memo,
                                         TransactionType type,
                                         Long userId) {
+        requirePositive(amount);
 
-        // 계좌 조회 및 검증
-        Account sender = accountRepository.findById(senderAccountId)
+        // 계좌 조회 및 검증 (소유자는 인덱스에서, 잔액을 제외한 계좌 정보는 캐시에서)
+        accountOwnershipIndex.checkOwner(senderAccountId, userId);
+        AccountSummary sender = accountMetadataCache.findById(senderAccountId)
                 .orElseThrow(() -> new AccountNotFoundException("송금 계좌가 존재하지 않습니다."));
 
-        if (!sender.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다.");
-        }
-
-        Account recipient = accountRepository.findByAccountNumber(recipientAccountNumber)
+        AccountSummary recipient = accountMetadataCache.findByAccountNumber(recipientAccountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("수취 계좌가 존재하지 않습니다."));
 
-        // 잔액 체크
-        if (sender.getBalance() < amount) {
-            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        if (scheduleDate == null && transferEngine.accepts()) {
+            return transferEngine.transfer(sender, recipient, amount, type);
         }
+        return new TransactionTemplate(transactionManager).execute(status ->
+                transfer(sender, recipient, amount, scheduleDate, memo, type));
+    }
 
-        // ScheduledTransfer 생성 (예약 송금일이 있는 경우)
-        ScheduledTransfer scheduledTransfer = null;
-        if (scheduleDate != null) {
-            scheduledTransfer = ScheduledTransfer.builder()
-                    .scheduleDate(scheduleDate)
-                    .memo(memo)
-                    .build();
+    private TransactionResponse transfer(AccountSummary sender,
+                                         AccountSummary recipient,
+                                         long amount,
+                                         LocalDateTime scheduleDate,
+                                         String memo,
+                                         TransactionType type) {
+        // 출금만 보내는 계좌 행을 갱신하고, 입금은 거래를 저장한 뒤 원장에 INSERT 한다 (받는 계좌 행은 잠그지 않는다)
+        long balance = withdraw(sender, amount, "transfer");
+        if (scheduleDate == null && sender.getId().equals(recipient.getId())) {
+            balance += amount; // 자기 계좌로 보낸 입금은 아직 원장에 들어가기 전
         }
 
         // Transaction 생성
         Transaction transaction = Transaction.builder()
-                .senderAccount(sender)
-                .recipientAccount(recipient)
+                .senderAccount(accountRepository.getReferenceById(sender.getId()))
+                .recipientAccount(accountRepository.getReferenceById(recipient.getId()))
                 .amount(amount)
-                .balance(sender.getBalance() - amount)
+                .balance(balance)
                 .type(type)
                 .status(scheduleDate != null ? TransactionStatus.SCHEDULED : TransactionStatus.COMPLETED)
-                .scheduledTransfer(scheduledTransfer)
                 .build();
 
-        if (scheduledTransfer != null) {
-            scheduledTransfer = ScheduledTransfer.builder()
+        // ScheduledTransfer 생성 (예약 송금일이 있는 경우)
+        if (scheduleDate != null) {
+            ScheduledTransfer scheduledTransfer = ScheduledTransfer.builder()
                     .transaction(transaction)
-                    .scheduleDate(scheduledTransfer.getScheduleDate())
-                    .memo(scheduledTransfer.getMemo())
+                    .scheduleDate(scheduleDate)
+                    .memo(memo)
                     .build();
 
-            transaction = Transaction.builder()
-                    .senderAccount(transaction.getSenderAccount())
-                    .recipientAccount(transaction.getRecipientAccount())
-                    .amount(transaction.getAmount())
-                    .balance(transaction.getBalance())
-                    .type(transaction.getType())
-                    .status(transaction.getStatus())
-                    .scheduledTransfer(scheduledTransfer)
-                    .build();
+            transaction.linkScheduledTransfer(scheduledTransfer);
         }
 
-        transactionRepository.save(transaction);
+        try {
+            // 받는 계좌 행은 갱신하지 않으므로, 캐시에 남아 있던 계좌가 이미 삭제되었는지는 거래 INSERT 의 외래 키로 확인한다
+            transactionRepository.saveAndFlush(transaction);
+        } catch (DataIntegrityViolationException e) {
+            accountMetadataCache.evict(recipient.getId(), recipient.getAccountNumber());
+            throw new AccountNotFoundException("수취 계좌가 존재하지 않습니다.");
+        }
+        dailyAccountStatsService.record(transaction);
+        if (scheduleDate != null) {
+            scheduledTransferWheel.scheduleAfterCommit(transaction.getId(), sender.getId(), scheduleDate);
+        } else {
+            ledgerService.credit(recipient.getId(), transaction.getId(), amount);
+        }
+        transactionMetrics.transferCommitted(type, scheduleDate != null);
 
-        return transactionMapper.toResponse(transaction);
+        return transactionMapper.toResponse(transaction, sender, recipient);
     }
     // 예약 송금 취소 (PATCH)
-    @Transactional
     public void cancelScheduledTransfer(Long transactionId, Long userId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new AccountNotFoundException("해당 거래가 존재하지 않습니다."));
-
-        Account senderAccount = transaction.getSenderAccount();
-        if (!senderAccount.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("취소 권한이 없습니다.");
-        }
+        accountLocker.inTransaction(() -> {
+            // 동시에 취소되어 이중 환불되지 않도록 거래부터 잠근다
+            Transaction transaction = transactionRepository.findByIdForUpdate(transactionId)
+                    .orElseThrow(() -> new AccountNotFoundException("해당 거래가 존재하지 않습니다."));
+
+            Account senderAccount = accountLocker.lock(transaction.getSenderAccount().getId())
+                    .orElseThrow(() -> new AccountNotFoundException("송금 계좌가 존재하지 않습니다."));
+            if (!senderAccount.getUser().getId().equals(userId)) {
+                throw new AccessDeniedException("취소 권한이 없습니다.");
+            }
 
-        if (transaction.getStatus() != TransactionStatus.SCHEDULED) {
-            throw new IllegalStateException("예약 송금만 취소할 수 있습니다.");
-        }
+            if (transaction.getStatus() != TransactionStatus.SCHEDULED) {
+                throw new IllegalStateException("예약 송금만 취소할 수 있습니다.");
+            }
 
-        senderAccount.deposit(transaction.getAmount());
-        transaction.cancelScheduled();
+            senderAccount.deposit(transaction.getAmount());
+            transaction.cancelScheduled();
+            return null;
+        });
     }
-    // 카드 결제 (POST)
-    @Transactional
+    // 카드 결제 (POST, 이체 엔진이 켜져 있으면 엔진에서 처리)
     public TransactionResponse cardPayment(Long accountId,
-                                           Integer amount,
+                                           Long amount,
                                            String merchantName) {
-        Account account = accountRepository.findById(accountId)
+        requirePositive(amount);
+
+        AccountSummary account = accountMetadataCache.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException("결제 계좌가 존재하지 않습니다."));
 
-        if (account.getBalance() < amount) {
-            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        if (transferEngine.accepts()) {
+            return transferEngine.cardPayment(account, amount, merchantName);
         }
+        return new TransactionTemplate(transactionManager).execute(status ->
+                cardPayment(account, amount, merchantName));
+    }
+
+    private TransactionResponse cardPayment(AccountSummary account, long amount, String merchantName) {
+        long balance = withdraw(account, amount, "card_payment");
 
         Transaction transaction = Transaction.builder()
-                .senderAccount(account)
+                .senderAccount(accountRepository.getReferenceById(account.getId()))
                 .recipientAccount(null)
                 .amount(amount)
-                .balance(account.getBalance() - amount)
+                .balance(balance)
                 .type(TransactionType.TRANSFER_OUT)
                 .status(TransactionStatus.COMPLETED)
                 .build();
@@ -223,10 +308,144 @@ public class TransactionService {
 
         transaction.linkCardPayment(cardPayment);
 
-        account.withdraw(amount);
-
         transactionRepository.save(transaction);
+        dailyAccountStatsService.record(transaction);
+        transactionMetrics.cardPaymentCommitted(merchantName);
 
-        return transactionMapper.toResponse(transaction);
+        return transactionMapper.toResponse(transaction, account, null);
+    }
+
+    // 출금 (잔액이 부족하면 예외, 출금 후 실제 잔액 반환, operation 은 지표 태그)
+    // 트랜잭션의 첫 문장이어야 한다 (LedgerService.lockAvailableBalance 참고).
+    // 캐시에서 읽은 계좌가 그 사이 삭제되었으면 캐시를 지우고 계좌 없음으로 처리한다 (잔액 부족 지표에 넣지 않는다)
+    private long withdraw(AccountSummary account, long amount, String operation) {
+        long available = ledgerService.lockAvailableBalance(account.getId())
+                .orElseThrow(() -> accountDeleted(account));
+        if (available < amount) {
+            transactionMetrics.insufficientBalance(operation);
+            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        }
+        if (accountRepository.withdraw(account.getId(), amount) != 1) {
+            throw accountDeleted(account);
+        }
+        return available - amount;
+    }
+
+    private AccountNotFoundException accountDeleted(AccountSummary account) {
+        accountMetadataCache.evict(account.getId(), account.getAccountNumber());
+        return new AccountNotFoundException("출금 계좌가 존재하지 않습니다.");
+    }
+
+    private void requirePositive(Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+    }
+
+    // 거래 내역 한 페이지 (최신순)
+    // 조회 범위가 보관 기준일 이전까지 걸치면 보관 테이블에서도 같은 조건으로 limit 건을 읽어 합친다.
+    // 보관된 거래는 모두 기준일 이전이므로, transactions 에서 limit 건을 채웠고 마지막 건이 기준일 이후면 보관 테이블은 읽지 않는다.
+    private List<TransactionResponse> findHistoryPage(Long accountId,
+                                                      TransactionType type,
+                                                      LocalDateTime start,
+                                                      LocalDateTime end,
+                                                      TransactionCursor after,
+                                                      int limit) {
+        List<TransactionResponse> page = new ArrayList<>(limit);
+        findRecentPage(accountId, type, start, end, after, limit)
+                .forEach(t -> page.add(transactionMapper.toResponse(t)));
+        if (!transactionArchiver.covers(start)
+                || (page.size() == limit
+                && !page.get(limit - 1).getTransactionDate().isBefore(transactionArchiver.cutoff()))) {
+            return page;
+        }
+
+        archivedTransactionRepository.findHistoryPage(
+                        accountId,
+                        type == null ? null : type.name(),
+                        start,
+                        end,
+                        after == null ? null : after.getTransactionDate(),
+                        after == null ? null : after.getTransactionId(),
+                        limit)
+                .forEach(row -> page.add(transactionMapper.toResponse(row)));
+        page.sort(HISTORY_ORDER);
+        return page.size() > limit ? page.subList(0, limit) : page;
+    }
+
+    // ID 를 인덱스로 먼저 고른 뒤 연관 엔티티와 함께 한 번에 조회
+    private List<Transaction> findRecentPage(Long accountId,
+                                             TransactionType type,
+                                             LocalDateTime start,
+                                             LocalDateTime end,
+                                             TransactionCursor after,
+                                             int limit) {
+        List<Long> ids = transactionRepository.findHistoryPageIds(
+                accountId,
+                type == null ? null : type.name(),
+                start,
+                end,
+                after == null ? null : after.getTransactionDate(),
+                after == null ? null : after.getTransactionId(),
+                limit);
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return transactionRepository.findAllWithAccountsByIdIn(ids);
+    }
+
+    private TransactionHistoryResponse summarize(Long accountId,
+                                                 TransactionType type,
+                                                 LocalDateTime start,
+                                                 LocalDateTime end) {
+        long totalIn = 0;
+        long totalOut = 0;
+
+        String typeName = type == null ? null : type.name();
+        List<TransactionTypeTotal> totals;
+        if (dailyAccountStatsService.covers(start)) {
+            // 하루 단위로 끊어지는 날들은 일별 집계에서, end 가 걸친 마지막 날만 거래에서 집계한다
+            LocalDate from = start == null ? null : start.toLocalDate();
+            LocalDate to = end == null ? null : end.toLocalDate().minusDays(1);
+            boolean fullDays = from == null || to == null || !to.isBefore(from);
+            if (fullDays) {
+                for (DailyAccountStatsRow row : dailyAccountStatsService.daily(accountId, from, to)) {
+                    totalIn += type == TransactionType.TRANSFER_OUT ? 0 : row.getTotalIn();
+                    totalOut += type == TransactionType.TRANSFER_IN ? 0 : row.getTotalOut();
+                }
+            }
+            // 나머지는 end 가 있는 날 0시부터 (하루도 채우지 못했으면 start 부터)
+            totals = end == null ? List.of()
+                    : sumTransactions(accountId, typeName, fullDays ? end.toLocalDate().atStartOfDay() : start, end);
+        } else {
+            totals = sumTransactions(accountId, typeName, start, end);
+        }
+        for (TransactionTypeTotal total : totals) {
+            if (total.getType() == TransactionType.TRANSFER_IN) {
+                totalIn += total.getTotal();
+            } else if (total.getType() == TransactionType.TRANSFER_OUT) {
+                totalOut += total.getTotal();
+            }
+        }
+
+        return TransactionHistoryResponse.builder()
+                .totalIn(totalIn)
+                .totalOut(totalOut)
+                .netChange(totalIn - totalOut)
+                .build();
+    }
+
+    // 거래에서 직접 집계 (조회 범위가 보관 기준일 이전까지 걸치면 보관 테이블도 더한다)
+    private List<TransactionTypeTotal> sumTransactions(Long accountId,
+                                                       String typeName,
+                                                       LocalDateTime start,
+                                                       LocalDateTime end) {
+        List<TransactionTypeTotal> totals = new ArrayList<>(
+                transactionRepository.sumAmountByType(accountId, typeName, start, end));
+        if (transactionArchiver.covers(start)) {
+            totals.addAll(archivedTransactionRepository.sumAmountByType(accountId, typeName, start, end));
+        }
+        return totals;
     }
 }
@@ -0,0 +1,287 @@
+package com.example.shbank.service;
+
+import com.example.shbank.dto.account.AccountSummary;
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.CardPayment;
+import com.example.shbank.entity.LedgerEntry;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.exception.transaction.ConcurrentTransferException;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.mapper.TransactionMapper;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 이체 엔진 (transfer.engine.enabled=true 일 때 즉시 이체/카드 결제를 처리)
+// 보내는 계좌 ID 로 파티션을 고르고, 파티션마다 스레드 하나가 큐에 쌓인 요청을 차례로 처리한다 (single writer).
+// 같은 계좌의 출금은 DB 행 잠금을 두고 경합하지 않고 파티션 큐에서 줄을 선다.
+// 1. 큐에서 batch-size 개까지 꺼내 보내는 계좌를 ID 순서로 한 번에 잠그고 (AsyncTransferSettler 와 같은 잠금 순서)
+// 2. 메모리에서 요청 순서대로 출금한 뒤 (잔액이 모자라거나 계좌가 없으면 그 요청만 실패)
+// 3. 계좌 UPDATE, 거래/입금 원장 INSERT 를 JDBC batch 로 내보내 한 번에 커밋한다 (group commit).
+// 커밋된 뒤에 호출한 스레드에 결과를 돌려주므로 응답을 받은 이체는 DB 에 남아 있다.
+// 잔액의 기준은 계속 DB 다 (다른 경로와 다른 인스턴스도 같은 계좌를 바꾸므로 메모리에 잔액을 들고 있지 않는다).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final TransactionMetrics transactionMetrics;
+    private final AccountMetadataCache accountMetadataCache;
+    private final LedgerService ledgerService;
+    private final DailyAccountStatsService dailyAccountStatsService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.engine.enabled:false}")
+    private boolean enabled;
+
+    @Value("${transfer.engine.partitions:4}")
+    private int partitions;
+
+    @Value("${transfer.engine.batch-size:100}")
+    private int batchSize;
+
+    @Value("${transfer.engine.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final List<BlockingQueue<Command>> queues = new ArrayList<>();
+    private volatile boolean running;
+    private ExecutorService writers;
+
+    // 파티션 스레드 시작 (enabled 가 false 면 시작하지 않는다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || partitions <= 0) {
+            return;
+        }
+        writers = Executors.newFixedThreadPool(partitions);
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<Command> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            writers.execute(() -> run(queue));
+        }
+        running = true;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writers != null) {
+            writers.shutdown();
+            writers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        // 처리하지 못하고 남은 요청은 실패로 돌려준다 (커밋되지 않았다)
+        for (BlockingQueue<Command> queue : queues) {
+            List<Command> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            rest.forEach(command -> command.result().completeExceptionally(
+                    new ConcurrentTransferException("이체를 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.")));
+        }
+    }
+
+    // 엔진으로 처리할 수 있는지 (이미 열린 트랜잭션 안의 호출은 그 트랜잭션과 함께 커밋되어야 하므로 제외)
+    public boolean accepts() {
+        return running && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    // 즉시 이체 (커밋될 때까지 기다린다)
+    public TransactionResponse transfer(AccountSummary sender, AccountSummary recipient, long amount,
+                                        TransactionType type) {
+        return submit(new Command(sender, recipient, amount, type, null, new CompletableFuture<>()));
+    }
+
+    // 카드 결제 (커밋될 때까지 기다린다)
+    public TransactionResponse cardPayment(AccountSummary account, long amount, String merchantName) {
+        return submit(new Command(account, null, amount, TransactionType.TRANSFER_OUT, merchantName,
+                new CompletableFuture<>()));
+    }
+
+    private TransactionResponse submit(Command command) {
+        BlockingQueue<Command> queue = queues.get(Math.floorMod(command.sender().getId().hashCode(), queues.size()));
+        if (!running || !queue.offer(command)) {
+            throw new ConcurrentTransferException("처리 대기 중인 이체가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return command.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run(BlockingQueue<Command> queue) {
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Command> batch) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = new TransactionTemplate(transactionManager).execute(status -> processInTransaction(batch));
+        } catch (RuntimeException e) {
+            // 배치가 롤백되면 모두 실패 (요청 하나의 실패는 배치를 롤백하지 않는다)
+            log.warn("이체 엔진 배치 처리 실패 ({}건): {}", batch.size(), e.getMessage());
+            batch.forEach(command -> command.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome.error() != null) {
+                batch.get(i).result().completeExceptionally(outcome.error());
+            } else {
+                batch.get(i).result().complete(outcome.response());
+            }
+        }
+    }
+
+    private List<Outcome> processInTransaction(List<Command> batch) {
+        TreeSet<Long> senderIds = new TreeSet<>();
+        Set<Long> recipientIds = new HashSet<>();
+        for (Command command : batch) {
+            senderIds.add(command.sender().getId());
+            if (command.recipient() != null) {
+                recipientIds.add(command.recipient().getId());
+            }
+        }
+
+        // 보내는 계좌만 잠그고, 잠근 뒤 반영되지 않은 입금을 읽는다 (받는 계좌는 잠그지 않고 있는지만 확인)
+        Map<Long, Account> senders = new HashMap<>();
+        accountRepository.findAllByIdInForUpdate(senderIds).forEach(a -> senders.put(a.getId(), a));
+        Map<Long, Long> credits = ledgerService.pendingCredits(senders.keySet());
+        Set<Long> recipients = recipientIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(accountRepository.findIdsByIdIn(recipientIds));
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<Transaction> transactions = new ArrayList<>();
+        Transaction[] completed = new Transaction[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Command command = batch.get(i);
+            boolean card = command.recipient() == null;
+            Account sender = senders.get(command.sender().getId());
+            if (sender == null) {
+                outcomes.add(Outcome.failed(new AccountNotFoundException(
+                        card ? "결제 계좌가 존재하지 않습니다." : "송금 계좌가 존재하지 않습니다.")));
+                continue;
+            }
+            if (!card && !recipients.contains(command.recipient().getId())) {
+                accountMetadataCache.evict(command.recipient().getId(), command.recipient().getAccountNumber());
+                outcomes.add(Outcome.failed(new AccountNotFoundException("수취 계좌가 존재하지 않습니다.")));
+                continue;
+            }
+            long pending = credits.get(sender.getId());
+            if (sender.getBalance() + pending < command.amount()) {
+                transactionMetrics.insufficientBalance(card ? "card_payment" : "transfer");
+                outcomes.add(Outcome.failed(new InsufficientBalanceException("잔액이 부족합니다.")));
+                continue;
+            }
+
+            sender.withdraw(command.amount(), pending);
+            if (!card) {
+                // 같은 배치에서 받은 돈을 다시 보낼 수 있도록 잠근 계좌의 입금은 바로 더해 둔다
+                credits.computeIfPresent(command.recipient().getId(), (id, amount) -> amount + command.amount());
+            }
+            Transaction transaction = Transaction.builder()
+                    .senderAccount(sender)
+                    .recipientAccount(card ? null : accountRepository.getReferenceById(command.recipient().getId()))
+                    .amount(command.amount())
+                    .balance(sender.getBalance() + credits.get(sender.getId()))
+                    .type(command.type())
+                    .status(TransactionStatus.COMPLETED)
+                    .build();
+            if (card) {
+                transaction.linkCardPayment(CardPayment.builder()
+                        .transaction(transaction)
+                        .merchantName(command.merchantName())
+                        .build());
+            }
+            transactions.add(transaction);
+            completed[i] = transaction;
+            outcomes.add(null); // 거래 ID 가 정해진 뒤 채운다
+        }
+
+        transactionRepository.saveAll(transactions);
+        dailyAccountStatsService.recordAll(transactions);
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Command command = batch.get(i);
+            Transaction transaction = completed[i];
+            if (transaction == null) {
+                continue;
+            }
+            if (command.recipient() != null) {
+                entries.add(LedgerService.entry(command.recipient().getId(), transaction.getId(), command.amount()));
+                transactionMetrics.transferCommitted(command.type(), false);
+            } else {
+                transactionMetrics.cardPaymentCommitted(command.merchantName());
+            }
+            outcomes.set(i, Outcome.completed(
+                    transactionMapper.toResponse(transaction, command.sender(), command.recipient())));
+        }
+        ledgerService.creditAll(entries);
+        return outcomes;
+    }
+
+    // 이체/카드 결제 요청 한 건 (recipient 가 null 이면 카드 결제)
+    private record Command(AccountSummary sender, AccountSummary recipient, long amount, TransactionType type,
+                           String merchantName, CompletableFuture<TransactionResponse> result) {
+    }
+
+    private record Outcome(TransactionResponse response, RuntimeException error) {
+
+        static Outcome completed(TransactionResponse response) {
+            return new Outcome(response, null);
+        }
+
+        static Outcome failed(RuntimeException error) {
+            return new Outcome(null, error);
+        }
+    }
+}
@@ -8,12 +8,14 @@ import com.example.shbank.exception.auth.EmailAlreadyExistsException;
 import com.example.shbank.exception.auth.UnauthorizedException;
 import com.example.shbank.mapper.UserMapper;
 import com.example.shbank.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("shbank.service")
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
@@ -1,5 +1,8 @@
 package com.example.shbank.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -7,9 +10,15 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtil {
@@ -25,12 +34,51 @@ public class JWTUtil {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    // 검증한 토큰을 보관할 최대 개수 (0 이면 캐시하지 않음)
+    @Value("${jwt.verified-cache-size:10000}")
+    private long verifiedCacheSize;
+
     private Key key;
 
+    // 파서는 만든 뒤에는 상태가 없어 스레드 간에 공유한다
+    private JwtParser parser;
+
+    // 토큰 해시 -> 검증 결과. 토큰 만료 시각에 같이 만료된다
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(tokenHash, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 토큰에서 확인한 사용자 정보 (email 은 액세스 토큰에만 있음)
+    public record VerifiedToken(Long userId, String email, long expiresAtMillis) {
     }
 
     // 액세스 토큰 생성
@@ -70,12 +118,45 @@ public class JWTUtil {
         }
     }
 
+    // 서명을 한 번만 검증하고 필요한 클레임을 함께 반환 (유효하지 않으면 empty)
+    // 최근에 검증한 토큰은 캐시에서 바로 반환해 서명 검증을 건너뛴다
+    public Optional<VerifiedToken> authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return Optional.of(cached);
+        }
+
+        VerifiedToken verified;
+        try {
+            Claims claims = parseClaims(token);
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            verified = new VerifiedToken(Long.parseLong(claims.getSubject()), claims.get("email", String.class),
+                    claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(tokenHash, verified);
+        return Optional.of(verified);
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 원본 토큰을 메모리에 들고 있지 않도록 SHA-256 해시를 캐시 키로 쓴다
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String getEmailFromToken(String token) {
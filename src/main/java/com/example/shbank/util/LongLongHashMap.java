@@ -0,0 +1,124 @@
+package com.example.shbank.util;
+
+// long -> long 해시맵 (키/값을 박싱하지 않는다)
+// 키와 값을 한 배열에 번갈아 저장하는 선형 탐사 방식이라 조회가 배열 접근 몇 번으로 끝난다.
+// 키 0 은 빈 칸 표시로 쓰므로 넣을 수 없다 (계좌 ID 처럼 1부터 시작하는 키용).
+// 스레드 안전하지 않다. 조회는 쓰기와 동시에 실행돼도 예외 없이 끝나지만 결과는 호출 쪽에서 검증해야 한다.
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        this.table = new long[capacity * 2];
+        this.resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public long get(long key, long missingValue) {
+        long[] t = table;
+        int mask = t.length - 2;
+        int index = indexOf(key, mask);
+        // 쓰기와 겹쳐 읽을 때 빈 칸을 못 만나도 끝나도록 칸 수만큼만 탐사
+        for (int probes = 0; probes < t.length / 2; probes++) {
+            long k = t[index];
+            if (k == key) {
+                return t[index + 1];
+            }
+            if (k == EMPTY) {
+                return missingValue;
+            }
+            index = (index + 2) & mask;
+        }
+        return missingValue;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        }
+        int mask = table.length - 2;
+        int index = indexOf(key, mask);
+        while (table[index] != EMPTY) {
+            if (table[index] == key) {
+                table[index + 1] = value;
+                return;
+            }
+            index = (index + 2) & mask;
+        }
+        // 값을 먼저 쓰고 키를 써서, 겹쳐 읽는 쪽이 키만 보고 빈 값을 가져가지 않게 한다
+        table[index + 1] = value;
+        table[index] = key;
+        if (++size >= resizeAt) {
+            rehash();
+        }
+    }
+
+    public void remove(long key) {
+        int mask = table.length - 2;
+        int index = indexOf(key, mask);
+        while (table[index] != key) {
+            if (table[index] == EMPTY) {
+                return;
+            }
+            index = (index + 2) & mask;
+        }
+        // 뒤따르는 칸을 당겨 채워 탐사 경로가 끊기지 않게 한다 (삭제 표시 없이)
+        int gap = index;
+        int next = (gap + 2) & mask;
+        while (table[next] != EMPTY) {
+            int home = indexOf(table[next], mask);
+            // next 의 원래 자리가 (gap, next] 구간 밖이면 gap 으로 옮길 수 있다
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap + 1] = table[next + 1];
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 2) & mask;
+        }
+        table[gap] = EMPTY;
+        table[gap + 1] = 0L;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 두 배 크기 배열을 다 채운 뒤 교체하므로, 겹쳐 읽는 쪽은 이전 배열이나 새 배열 중 하나를 온전히 본다
+    private void rehash() {
+        long[] old = table;
+        long[] next = new long[old.length * 2];
+        int mask = next.length - 2;
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != EMPTY) {
+                int index = indexOf(old[i], mask);
+                while (next[index] != EMPTY) {
+                    index = (index + 2) & mask;
+                }
+                next[index + 1] = old[i + 1];
+                next[index] = old[i];
+            }
+        }
+        resizeAt = (int) (next.length / 2 * LOAD_FACTOR);
+        table = next;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        if (capacity <= 0 || capacity > (1 << 29)) {
+            throw new IllegalArgumentException("용량이 너무 큽니다: " + expectedSize);
+        }
+        return capacity;
+    }
+
+    // 피보나치 해싱으로 연속된 ID 도 고르게 흩어지게 한다 (키 칸 위치, 항상 짝수)
+    private static int indexOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return ((int) (hash ^ (hash >>> 32)) << 1) & mask;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.shbank.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// 고정 길이 레코드를 덧붙이기만 하는 저널 (메모리 매핑한 세그먼트 파일)
+// 레코드 = [마커 4바이트][본문 payloadSize 바이트][마커+본문의 CRC32C 4바이트]
+// 세그먼트는 segmentSize 안에 들어가는 레코드 수만큼의 크기로 미리 만들고(0 으로 채워짐), 다 차면 다음 번호 파일을 만든다.
+// 마커가 없거나 CRC 가 맞지 않는 레코드가 끝이다. 기록 중에 죽어 반쯤 쓰인 레코드는 다시 열 때 끝으로 보고 그 자리부터 덮어쓴다.
+// 디스크 반영은 force 를 부른 시점이다 (부르지 않으면 OS 가 알아서 내려쓴다).
+// 쓰기는 한 번에 한 스레드씩 (synchronized), 읽기(replay)는 쓰기와 동시에 해도 되고 시작 시점까지 쓰인 레코드만 읽는다.
+public class MappedJournal implements Closeable {
+
+    private static final int MARKER = 0x544A524E; // "TJRN"
+    private static final int HEADER_SIZE = 4;
+    private static final int TRAILER_SIZE = 4;
+    private static final String SUFFIX = ".journal";
+
+    // 본문을 buffer 의 현재 위치부터 payloadSize 바이트 쓴다
+    public interface RecordWriter {
+        void write(ByteBuffer buffer);
+    }
+
+    // buffer 의 현재 위치부터 payloadSize 바이트가 본문이다
+    public interface RecordReader {
+        void read(ByteBuffer buffer);
+    }
+
+    private final Path directory;
+    private final int payloadSize;
+    private final int recordSize;
+    private final int segmentLength;
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int position;
+    private boolean dirty;
+    // replay 가 읽을 수 있는 끝 (세그먼트 번호, 위치)
+    private volatile long committedSegment;
+    private volatile int committedPosition;
+
+    public MappedJournal(Path directory, int payloadSize, int segmentSize) {
+        this.recordSize = HEADER_SIZE + payloadSize + TRAILER_SIZE;
+        if (payloadSize <= 0 || segmentSize < recordSize) {
+            throw new IllegalArgumentException("저널 설정이 올바르지 않습니다.");
+        }
+        this.directory = directory;
+        this.payloadSize = payloadSize;
+        this.segmentLength = segmentSize / recordSize * recordSize;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segments();
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                // 마지막 세그먼트의 끝(처음으로 올바르지 않은 레코드)부터 이어 쓴다
+                openSegment(indexOf(segments.get(segments.size() - 1)));
+                while (position < segmentLength && valid(segment, position, crc)) {
+                    position += recordSize;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        committedSegment = segmentIndex;
+        committedPosition = position;
+    }
+
+    // 레코드 하나 덧붙이기 (세그먼트가 다 찼으면 디스크에 반영하고 다음 세그먼트로 넘어간다)
+    public synchronized void append(RecordWriter writer) {
+        if (position == segmentLength) {
+            segment.force();
+            openSegment(segmentIndex + 1);
+        }
+        int start = position;
+        segment.position(start);
+        segment.putInt(MARKER);
+        writer.write(segment);
+        if (segment.position() != start + HEADER_SIZE + payloadSize) {
+            throw new IllegalArgumentException("저널 레코드 길이가 맞지 않습니다.");
+        }
+        segment.putInt(checksum(segment, start, crc));
+        position += recordSize;
+        dirty = true;
+        committedSegment = segmentIndex;
+        committedPosition = position;
+    }
+
+    // 덧붙인 레코드를 디스크에 반영 (fsync)
+    public synchronized void force() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+
+    // 처음부터 순서대로 읽기 (읽은 레코드 수 반환)
+    // 다 찬 세그먼트 중간에 올바르지 않은 레코드가 있으면 손상으로 보고 예외
+    public long replay(RecordReader reader) {
+        long lastSegment = committedSegment;
+        int lastPosition = committedPosition;
+        long count = 0;
+        CRC32C replayCrc = new CRC32C();
+        try {
+            for (Path path : segments()) {
+                long index = indexOf(path);
+                if (index > lastSegment) {
+                    break;
+                }
+                int end = index == lastSegment ? lastPosition : segmentLength;
+                ByteBuffer buffer = map(path, FileChannel.MapMode.READ_ONLY);
+                for (int offset = 0; offset < end; offset += recordSize) {
+                    if (!valid(buffer, offset, replayCrc)) {
+                        throw new IllegalStateException("저널이 손상되었습니다: " + path.getFileName() + " @" + offset);
+                    }
+                    buffer.limit(offset + HEADER_SIZE + payloadSize).position(offset + HEADER_SIZE);
+                    reader.read(buffer);
+                    buffer.limit(buffer.capacity());
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+    }
+
+    private void openSegment(long index) {
+        try {
+            segment = map(directory.resolve(String.format("%016d%s", index, SUFFIX)), FileChannel.MapMode.READ_WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segmentIndex = index;
+        position = 0;
+    }
+
+    private MappedByteBuffer map(Path path, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        // 매핑은 채널을 닫아도 유지된다
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(mode, 0, segmentLength);
+        }
+    }
+
+    private boolean valid(ByteBuffer buffer, int offset, CRC32C crc) {
+        return buffer.getInt(offset) == MARKER
+                && buffer.getInt(offset + HEADER_SIZE + payloadSize) == checksum(buffer, offset, crc);
+    }
+
+    // 마커 + 본문의 CRC32C
+    private int checksum(ByteBuffer buffer, int offset, CRC32C crc) {
+        crc.reset();
+        crc.update(buffer.slice(offset, HEADER_SIZE + payloadSize));
+        return (int) crc.getValue();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.shbank.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 계층형 타이밍 휠
+// 0단계 휠의 한 칸이 tickMillis, 그 위 단계는 한 칸이 아래 단계 휠 한 바퀴(tickMillis * wheelSize^단계)이다.
+// 먼 항목은 윗단계 칸에 넣어 두었다가 그 칸 시각이 되면 아래 단계로 내려보내므로,
+// 추가/만료가 항목 수와 상관없이 O(1) 이고 tickMillis 단위로 만료된다.
+// 시계는 advance 로만 움직이며, 만료 시각보다 먼저 꺼내지 않는다.
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final List<Entry<T>>[][] slots;
+
+    private long currentTime;
+    private List<Entry<T>> expired = new ArrayList<>();
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levels];
+        this.slots = new List[levels][wheelSize];
+
+        long levelTick = tickMillis;
+        for (int level = 0; level < levels; level++) {
+            levelTicks[level] = levelTick;
+            levelTick = Math.multiplyExact(levelTick, wheelSize);
+        }
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    // 현재 시각부터 넣을 수 있는 가장 먼 만료 시각까지의 간격
+    public long maxDelayMillis() {
+        return levelTicks[levelTicks.length - 1] * wheelSize - levelTicks[levelTicks.length - 1];
+    }
+
+    // 만료 시각이 이미 지났으면 다음 advance 에서 바로 꺼낸다
+    public synchronized void add(T item, long deadlineMillis) {
+        // 만료 시각이 칸 중간이면 다음 칸에서 꺼내도록 올림
+        long expiration = deadlineMillis + tickMillis - 1;
+        expiration -= Math.floorMod(expiration, tickMillis);
+        if (expiration > currentTime + maxDelayMillis()) {
+            throw new IllegalArgumentException("타이밍 휠 범위를 벗어난 만료 시각입니다.");
+        }
+        place(new Entry<>(item, expiration));
+        size++;
+    }
+
+    // 시계를 nowMillis 까지 진행하고 만료된 항목을 반환
+    public synchronized List<T> advance(long nowMillis) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // 윗단계 칸 경계에 도달하면 위에서부터 차례로 아래 단계로 내려보낸다
+            int top = 0;
+            while (top + 1 < levelTicks.length && currentTime % levelTicks[top + 1] == 0) {
+                top++;
+            }
+            for (int level = top; level >= 0; level--) {
+                int index = slotIndex(level, currentTime);
+                List<Entry<T>> bucket = slots[level][index];
+                if (bucket != null) {
+                    slots[level][index] = null;
+                    bucket.forEach(this::place);
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(expired.size());
+        for (Entry<T> entry : expired) {
+            result.add(entry.item);
+        }
+        size -= expired.size();
+        expired = new ArrayList<>();
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.expiration <= currentTime) {
+            expired.add(entry);
+            return;
+        }
+        for (int level = 0; level < levelTicks.length; level++) {
+            long levelTick = levelTicks[level];
+            long levelStart = currentTime - currentTime % levelTick;
+            if (entry.expiration < levelStart + levelTick * wheelSize) {
+                // 0단계는 만료 시각 칸에, 윗단계는 만료 시각이 속한 칸(그 칸 시작 시각에 아래로 내려감)에 넣는다
+                int index = slotIndex(level, entry.expiration);
+                if (slots[level][index] == null) {
+                    slots[level][index] = new ArrayList<>();
+                }
+                slots[level][index].add(entry);
+                return;
+            }
+        }
+        throw new IllegalStateException("타이밍 휠 범위를 벗어난 항목입니다.");
+    }
+
+    private int slotIndex(int level, long time) {
+        return (int) ((time / levelTicks[level]) % wheelSize);
+    }
+
+    private record Entry<T>(T item, long expiration) {
+    }
+}
@@ -1,6 +1,19 @@
+-- ID 할당 테이블 (MySQL 에는 시퀀스가 없어 한 행짜리 테이블로 대신한다)
+-- 애플리케이션이 next_val 을 50씩 올려 받아 두고 메모리에서 ID 를 나눠 준다 (pooled)
+CREATE TABLE users_seq (next_val BIGINT NOT NULL);
+CREATE TABLE accounts_seq (next_val BIGINT NOT NULL);
+CREATE TABLE transactions_seq (next_val BIGINT NOT NULL);
+CREATE TABLE ledger_entries_seq (next_val BIGINT NOT NULL);
+CREATE TABLE daily_account_stats_deltas_seq (next_val BIGINT NOT NULL);
+INSERT INTO users_seq VALUES (1);
+INSERT INTO accounts_seq VALUES (1);
+INSERT INTO transactions_seq VALUES (1);
+INSERT INTO ledger_entries_seq VALUES (1);
+INSERT INTO daily_account_stats_deltas_seq VALUES (1);
+
 -- 사용자 테이블
 CREATE TABLE users (
-    user_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
     name VARCHAR(100) NOT NULL,
     email VARCHAR(255) NOT NULL UNIQUE,
     password CHAR(60) NOT NULL,
@@ -11,7 +24,7 @@ CREATE TABLE users (
 
 -- 계좌 테이블
 CREATE TABLE accounts (
-    account_id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     account_name VARCHAR(100) NOT NULL,
     account_number CHAR(15) NOT NULL UNIQUE,
@@ -20,6 +33,7 @@ CREATE TABLE accounts (
     password CHAR(60) NOT NULL,
     type ENUM('PRIMARY','CHECKING','SAVINGS','MERCHANT') NOT NULL,
     status ENUM('ACTIVE','CLOSED') NOT NULL DEFAULT 'ACTIVE',
+    version BIGINT NOT NULL DEFAULT 0,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY(account_id),
@@ -28,12 +42,12 @@ CREATE TABLE accounts (
 
 -- 거래 테이블
 CREATE TABLE transactions (
-    transaction_id BIGINT NOT NULL AUTO_INCREMENT,
+    transaction_id BIGINT NOT NULL,
     sender_account_id BIGINT NOT NULL,
     recipient_account_id BIGINT NULL,
     amount BIGINT NOT NULL,
     balance BIGINT NOT NULL,
-    status ENUM('COMPLETED','SCHEDULED','CANCELED') NOT NULL,
+    status ENUM('COMPLETED','SCHEDULED','CANCELED','FAILED') NOT NULL,
     type ENUM('TRANSFER_IN','TRANSFER_OUT','CARD_PAYMENT') NOT NULL,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY(transaction_id),
@@ -41,6 +55,16 @@ CREATE TABLE transactions (
     FOREIGN KEY(recipient_account_id) REFERENCES accounts(account_id)
 );
 
+-- 거래 내역 조회용 인덱스 (보낸 거래 / 받은 거래를 각각 최신순 범위 조회)
+CREATE INDEX idx_transactions_sender_created
+    ON transactions (sender_account_id, created_at, transaction_id);
+CREATE INDEX idx_transactions_recipient_created
+    ON transactions (recipient_account_id, created_at, transaction_id);
+
+-- 예약 송금 실행 대상 조회용 인덱스 (SCHEDULED 상태만 범위 조회)
+CREATE INDEX idx_transactions_status
+    ON transactions (status);
+
 -- 예약 송금 테이블 (선택적 1:1, PK = FK)
 CREATE TABLE scheduled_transfers (
     transaction_id BIGINT NOT NULL,
@@ -52,6 +76,10 @@ CREATE TABLE scheduled_transfers (
         ON DELETE CASCADE
 );
 
+-- 타이밍 휠 적재용 인덱스 (예약 시각 범위 조회)
+CREATE INDEX idx_scheduled_transfers_date
+    ON scheduled_transfers (schedule_date);
+
 -- 카드 결제 테이블 (선택적 1:1, PK = FK)
 CREATE TABLE card_payments (
     transaction_id BIGINT NOT NULL,
@@ -60,4 +88,114 @@ CREATE TABLE card_payments (
     CONSTRAINT FK_CardPayment_Transaction
         FOREIGN KEY(transaction_id) REFERENCES transactions(transaction_id)
         ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- Idempotency-Key 테이블 (첫 응답 보관, Redis 에서 빠졌을 때의 기준)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(150) NOT NULL,
+    request_hash CHAR(32) NOT NULL,
+    response TEXT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY(idempotency_key)
+);
+CREATE INDEX idx_idempotency_keys_created
+    ON idempotency_keys (created_at);
+-- 입금 원장 테이블 (INSERT 만 한다, 실제 잔액 = accounts.balance + compacted = 0 인 행의 합계)
+-- 입금할 때 계좌 행에 공유 잠금이 걸리지 않도록 accounts 외래 키는 두지 않는다
+CREATE TABLE ledger_entries (
+    ledger_entry_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    transaction_id BIGINT NULL,
+    amount BIGINT NOT NULL,
+    compacted BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY(ledger_entry_id)
+);
+
+-- 반영되지 않은 입금 조회용 인덱스 (잔액 계산, 출금 확인, 스냅샷 반영)
+CREATE INDEX idx_ledger_entries_pending
+    ON ledger_entries (compacted, account_id);
+
+-- 보관 거래 테이블 (보관 기간이 지난 거래를 TransactionArchiver 가 transactions 에서 옮긴다, INSERT 만 한다)
+-- 거래일시 기준 월별 RANGE 파티션. 파티션 테이블에는 외래 키를 둘 수 없고 모든 유니크 키에 파티션 컬럼이 들어가야 해서
+-- 외래 키가 있는 transactions 대신 보관 테이블만 나눈다 (PK = 거래 ID + 거래일시).
+-- 컬럼 이름은 ArchivedTransaction 엔티티와 네이티브 쿼리(ArchivedTransactionRepository, 거래 내역 조회)에 맞춘다 (id, transaction_date).
+-- p_future 하나로 만들고, TransactionArchiver 가 옮기기 전에 p_future 를 REORGANIZE PARTITION 으로 나눠
+-- 보관 기준일 이전 달까지 월별 파티션(p2025_01 = 2025-02-01 미만)을 만든다 (처음에는 가장 오래된 거래의 달부터).
+-- 보관 테이블을 Hibernate 가 만들면 파티션이 없으므로, 운영 DB 에는 반드시 이 DDL 로 만든다.
+-- 더 이상 조회하지 않는 달은 EXCHANGE PARTITION 으로 떼어 내 파일로 내보낸 뒤 DROP PARTITION 한다.
+CREATE TABLE transactions_archive (
+    id BIGINT NOT NULL,
+    sender_account_id BIGINT NOT NULL,
+    recipient_account_id BIGINT NULL,
+    amount BIGINT NOT NULL,
+    balance BIGINT NOT NULL,
+    status ENUM('COMPLETED','SCHEDULED','CANCELED','FAILED') NOT NULL,
+    type ENUM('TRANSFER_IN','TRANSFER_OUT','CARD_PAYMENT') NOT NULL,
+    transaction_date DATETIME NOT NULL,
+    merchant_name VARCHAR(100) NULL,
+    schedule_date DATETIME NULL,
+    memo VARCHAR(255) NULL,
+    PRIMARY KEY(id, transaction_date)
+) ROW_FORMAT=COMPRESSED
+PARTITION BY RANGE COLUMNS(transaction_date) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 보관 거래 내역 조회용 인덱스 (파티션마다 만들어지고, 조회 기간 밖의 파티션은 읽지 않는다)
+CREATE INDEX idx_transactions_archive_sender_date
+    ON transactions_archive (sender_account_id, transaction_date, id);
+CREATE INDEX idx_transactions_archive_recipient_date
+    ON transactions_archive (recipient_account_id, transaction_date, id);
+
+-- 보관 대상 조회용 인덱스 (거래일시 범위, 보관 작업의 네이티브 쿼리와 같은 컬럼 이름)
+CREATE INDEX idx_transactions_date
+    ON transactions (transaction_date);
+
+-- 계좌별 일별 입출금 집계 (거래 합계 조회와 같은 기준: 보낸/받은 거래를 거래 유형별로, 상태 무관)
+-- INSERT ... ON DUPLICATE KEY UPDATE 로만 갱신한다
+CREATE TABLE daily_account_stats (
+    account_id BIGINT NOT NULL,
+    stats_date DATE NOT NULL,
+    total_in BIGINT NOT NULL,
+    total_out BIGINT NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY(account_id, stats_date)
+);
+
+-- 아직 일별 집계에 더하지 않은 증분 (거래를 저장하는 트랜잭션에서 INSERT, DailyAccountStatsService 가 더한 뒤 지운다)
+-- 증분을 잠그는 네이티브 쿼리가 id 순서로 읽으므로 PK 컬럼 이름은 엔티티와 같은 id
+CREATE TABLE daily_account_stats_deltas (
+    id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    stats_date DATE NOT NULL,
+    amount_in BIGINT NOT NULL,
+    amount_out BIGINT NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY(id)
+);
+CREATE INDEX idx_daily_account_stats_deltas_account
+    ON daily_account_stats_deltas (account_id, stats_date);
+
+-- 기존 거래로 일별 집계 채우기 (집계를 처음 배포할 때 한 번, transactions 와 transactions_archive 를 함께 더한다)
+-- 거래일시는 엔티티 컬럼 이름(transaction_date)으로 읽는다
+-- 순서: 거래 쓰기와 보관 작업을 멈춘다 -> 이 문장을 실행한다 -> 증분을 기록하는 버전을 띄운다
+-- (먼저 띄우면 그 사이 거래가 증분과 여기서 두 번 더해지고, 나중에 띄우면 그 사이 거래가 빠진다.
+--  보관 작업이 돌면 옮겨지는 중인 거래를 두 테이블에서 두 번 세거나 빠뜨릴 수 있다)
+INSERT INTO daily_account_stats (account_id, stats_date, total_in, total_out, transaction_count)
+SELECT h.account_id, DATE(h.transaction_date),
+       SUM(CASE WHEN h.type = 'TRANSFER_IN' THEN h.amount ELSE 0 END),
+       SUM(CASE WHEN h.type = 'TRANSFER_IN' THEN 0 ELSE h.amount END),
+       COUNT(*)
+FROM (
+    SELECT t.sender_account_id AS account_id, t.type, t.amount, t.transaction_date FROM transactions t
+    UNION ALL
+    SELECT t.recipient_account_id, t.type, t.amount, t.transaction_date FROM transactions t
+    WHERE t.recipient_account_id IS NOT NULL AND t.recipient_account_id <> t.sender_account_id
+    UNION ALL
+    SELECT a.sender_account_id, a.type, a.amount, a.transaction_date FROM transactions_archive a
+    UNION ALL
+    SELECT a.recipient_account_id, a.type, a.amount, a.transaction_date FROM transactions_archive a
+    WHERE a.recipient_account_id IS NOT NULL AND a.recipient_account_id <> a.sender_account_id
+) h
+GROUP BY h.account_id, DATE(h.transaction_date);
@@ -2,7 +2,6 @@ package com.example.shbank.controller;
 
 import com.example.shbank.dto.account.*;
 import com.example.shbank.dto.verify.VerifyPasswordRequest;
-import com.example.shbank.entity.Account;
 import com.example.shbank.enums.AccountType;
 import com.example.shbank.exception.account.AccountNotFoundException;
 import com.example.shbank.security.CustomUserDetails;
@@ -62,8 +61,8 @@ class AccountControllerTest {
         AccountCreateRequest request = AccountCreateRequest.builder()
                 .accountName("Test Account")
                 .accountType(AccountType.SAVINGS)
-                .initialAmount(10000)
-                .transferLimit(5000)
+                .initialAmount(10000L)
+                .transferLimit(5000L)
                 .authPassword("123456")
                 .build();
 
@@ -72,8 +71,8 @@ class AccountControllerTest {
                 .accountName("Test Account")
                 .accountNumber("1234-567-890123")
                 .accountType("SAVINGS")
-                .balance(10000)
-                .transferLimit(5000)
+                .balance(10000L)
+                .transferLimit(5000L)
                 .build();
 
         Mockito.when(accountService.createAccount(any(AccountCreateRequest.class), eq(userDetails.getUserId())))
@@ -97,8 +96,8 @@ class AccountControllerTest {
         AccountCreateRequest request = AccountCreateRequest.builder()
                 .accountName("Test Account")
                 .accountType(AccountType.SAVINGS)
-                .initialAmount(10000)
-                .transferLimit(5000)
+                .initialAmount(10000L)
+                .transferLimit(5000L)
                 .authPassword("123456")
                 .build();
 
@@ -116,7 +115,7 @@ class AccountControllerTest {
     @Test
     void testGetAccounts_Success() throws Exception {
         List<AccountResponse> accounts = List.of(
-                new AccountResponse(1L, "Account", "1234-567-890123", 10000, "SAVINGS",5000)
+                new AccountResponse(1L, "Account", "1234-567-890123", 10000L, "SAVINGS",5000L)
         );
 
         Mockito.when(accountService.getAccountByUser(eq(userDetails.getUserId())))
@@ -133,12 +132,12 @@ class AccountControllerTest {
 
     @Test
     void testGetAccountByAccountNumber_Success() throws Exception {
-        Account account = Account.builder()
-                .id(2L)
+        AccountResponse account = AccountResponse.builder()
+                .accountId(2L)
                 .accountNumber("1234-567-890124")
-                .balance(5000)
+                .balance(5000L)
                 .accountName("상대계좌")
-                .type(AccountType.SAVINGS)
+                .accountType("SAVINGS")
                 .build();
 
         Mockito.when(accountService.getAccountByAccountNumber("1234-567-890124"))
@@ -165,7 +164,7 @@ class AccountControllerTest {
     @Test
     void testUpdateAccountSettings_Success() throws Exception {
         AccountSettingRequest request = new AccountSettingRequest();
-        request.setTransferLimit(10000);
+        request.setTransferLimit(10000L);
 
         mockMvc.perform(patch("/api/accounts/1/settings")
                         .with(csrf())
@@ -180,7 +179,7 @@ class AccountControllerTest {
     @Test
     void testUpdateAccountSettings_AccountNotFound() throws Exception {
         AccountSettingRequest request = new AccountSettingRequest();
-        request.setTransferLimit(10000);
+        request.setTransferLimit(10000L);
 
         Mockito.doThrow(new AccountNotFoundException("해당 계좌가 존재하지 않습니다."))
                 .when(accountService)
@@ -197,7 +196,7 @@ class AccountControllerTest {
     @Test
     void testUpdateAccountSettings_AccessDenied() throws Exception {
         AccountSettingRequest request = new AccountSettingRequest();
-        request.setTransferLimit(10000);
+        request.setTransferLimit(10000L);
 
         Mockito.doThrow(new AccessDeniedException("해당 계좌에 접근할 권한이 없습니다."))
                 .when(accountService)
@@ -214,7 +213,7 @@ class AccountControllerTest {
     @Test
     void testGetTransferLimit_Success() throws Exception {
         Mockito.when(accountService.getTransferLimit(eq(1L), eq(userDetails.getUserId())))
-                .thenReturn(5000);
+                .thenReturn(5000L);
 
         mockMvc.perform(get("/api/accounts/1/settings"))
                 .andExpect(status().isOk())
@@ -1,12 +1,24 @@
 package com.example.shbank.controller;
 
+import com.example.shbank.dto.transaction.AsyncTransferResponse;
+import com.example.shbank.dto.transaction.BulkTransferRequest;
+import com.example.shbank.dto.transaction.BulkTransferResponse;
 import com.example.shbank.dto.transaction.ScheduledTransferResponse;
 import com.example.shbank.dto.transaction.TransactionHistoryResponse;
 import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.dto.transaction.TransactionStatsResponse;
+import com.example.shbank.enums.AsyncTransferState;
+import com.example.shbank.enums.BulkTransferMode;
+import com.example.shbank.enums.StatsPeriod;
+import com.example.shbank.enums.TransactionStatus;
 import com.example.shbank.enums.TransactionType;
 import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.exception.transaction.IdempotencyConflictException;
 import com.example.shbank.exception.transaction.InsufficientBalanceException;
 import com.example.shbank.security.CustomUserDetails;
+import com.example.shbank.service.AsyncTransferService;
+import com.example.shbank.service.BulkTransferService;
+import com.example.shbank.service.IdempotencyService;
 import com.example.shbank.service.TransactionService;
 import com.example.shbank.util.JWTUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,12 +28,19 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
@@ -38,6 +57,15 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private BulkTransferService bulkTransferService;
+
+    @MockBean
+    private AsyncTransferService asyncTransferService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @MockBean
     private JWTUtil jwtUtil;
 
@@ -54,6 +82,12 @@ class TransactionControllerTest {
         UsernamePasswordAuthenticationToken auth =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(auth);
+
+        // 기본은 요청을 그대로 실행
+        Mockito.when(idempotencyService.execute(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<TransactionResponse>>getArgument(3).get());
+        Mockito.when(idempotencyService.execute(any(), any(), any(), any(Class.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
     }
 
     @Test
@@ -62,21 +96,21 @@ class TransactionControllerTest {
                 .transactionId(100L)
                 .senderName("홍길동")
                 .recipientName("김철수")
-                .amount(5000)
-                .balance(50000)
+                .amount(5000L)
+                .balance(50000L)
                 .type("TRANSFER_OUT")
                 .transactionDate(LocalDateTime.now())
                 .build();
 
         TransactionHistoryResponse response = TransactionHistoryResponse.builder()
-                .totalIn(0)
-                .totalOut(5000)
-                .netChange(-5000)
+                .totalIn(0L)
+                .totalOut(5000L)
+                .netChange(-5000L)
                 .transactions(List.of(tx))
                 .build();
 
         Mockito.when(transactionService.getTransactionHistory(eq(1L), eq(userDetails.getUserId()),
-                        eq(null), any(), any()))
+                        eq(null), any(), any(), eq(null), eq(null)))
                 .thenReturn(response);
 
         mockMvc.perform(get("/api/transactions/{accountId}", 1L)
@@ -86,13 +120,137 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.transactions[0].recipientName").value("김철수"));
     }
 
+    @Test
+    void testGetTransactionHistory_WithCursor() throws Exception {
+        TransactionHistoryResponse response = TransactionHistoryResponse.builder()
+                .totalIn(0L)
+                .totalOut(0L)
+                .netChange(0L)
+                .transactions(List.of())
+                .nextCursor("next-cursor")
+                .build();
+
+        Mockito.when(transactionService.getTransactionHistory(eq(1L), eq(userDetails.getUserId()),
+                        eq(null), any(), any(), eq("cursor"), eq(10)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/transactions/{accountId}", 1L)
+                        .param("cursor", "cursor")
+                        .param("size", "10")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    void testGetTransactionHistory_InvalidCursor() throws Exception {
+        Mockito.when(transactionService.getTransactionHistory(eq(1L), eq(userDetails.getUserId()),
+                        eq(null), any(), any(), eq("broken"), any()))
+                .thenThrow(new IllegalArgumentException("유효하지 않은 커서입니다."));
+
+        mockMvc.perform(get("/api/transactions/{accountId}", 1L)
+                        .param("cursor", "broken")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetTransactionHistory_SummaryOnly() throws Exception {
+        TransactionHistoryResponse response = TransactionHistoryResponse.builder()
+                .totalIn(3000L)
+                .totalOut(5000L)
+                .netChange(-2000L)
+                .build();
+
+        Mockito.when(transactionService.getTransactionSummary(eq(1L), eq(userDetails.getUserId()),
+                        eq(null), any(), any()))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/transactions/{accountId}", 1L)
+                        .param("summaryOnly", "true")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.netChange").value(-2000))
+                .andExpect(jsonPath("$.transactions").doesNotExist());
+
+        Mockito.verify(transactionService, Mockito.never())
+                .getTransactionHistory(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testStreamTransactionHistory_Success() throws Exception {
+        TransactionResponse tx = TransactionResponse.builder()
+                .transactionId(100L)
+                .recipientName("김철수")
+                .amount(5000L)
+                .build();
+
+        // MockHttpServletResponse 는 스레드 안전하지 않으므로, 요청 스레드가 응답을 다 쓴 뒤에 스트리밍을 시작한다
+        CountDownLatch requestReturned = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            requestReturned.await(5, TimeUnit.SECONDS);
+            Consumer<TransactionResponse> consumer = invocation.getArgument(5);
+            consumer.accept(tx);
+            return null;
+        }).when(transactionService).streamTransactionHistory(eq(1L), eq(userDetails.getUserId()),
+                eq(null), any(), any(), any());
+
+        MvcResult result = mockMvc.perform(get("/api/transactions/{accountId}/stream", 1L)
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        requestReturned.countDown();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transactionId").value(100))
+                .andExpect(jsonPath("$[0].recipientName").value("김철수"));
+    }
+
+    @Test
+    void testGetTransactionStats_Success() throws Exception {
+        TransactionStatsResponse stats = TransactionStatsResponse.builder()
+                .periodStart(LocalDate.of(2025, 1, 1))
+                .totalIn(30000L)
+                .totalOut(12000L)
+                .netChange(18000L)
+                .transactionCount(7L)
+                .build();
+
+        Mockito.when(transactionService.getTransactionStats(eq(1L), eq(userDetails.getUserId()),
+                        eq(StatsPeriod.YEAR), eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2025, 12, 31))))
+                .thenReturn(List.of(stats));
+
+        mockMvc.perform(get("/api/transactions/{accountId}/stats", 1L)
+                        .param("period", "YEAR")
+                        .param("from", "2024-01-01")
+                        .param("to", "2025-12-31")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].periodStart").value("2025-01-01"))
+                .andExpect(jsonPath("$[0].netChange").value(18000))
+                .andExpect(jsonPath("$[0].transactionCount").value(7));
+    }
+
+    @Test
+    void testGetTransactionStats_DefaultsToMonthly() throws Exception {
+        Mockito.when(transactionService.getTransactionStats(eq(1L), eq(userDetails.getUserId()),
+                        eq(StatsPeriod.MONTH), eq(null), eq(null)))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/transactions/{accountId}/stats", 1L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
     @Test
     void testGetScheduledTransfers_Success() throws Exception {
         ScheduledTransferResponse scheduled = ScheduledTransferResponse.builder()
                 .accountId(1L)
                 .transferId(200L)
                 .recipientName("김영희")
-                .amount(10000)
+                .amount(10000L)
                 .scheduleDate(LocalDateTime.now().plusDays(1))
                 .memo("용돈")
                 .build();
@@ -113,14 +271,14 @@ class TransactionControllerTest {
                 .transactionId(300L)
                 .senderName("홍길동")
                 .recipientName("이순신")
-                .amount(20000)
-                .balance(80000)
+                .amount(20000L)
+                .balance(80000L)
                 .type("TRANSFER_OUT")
                 .transactionDate(LocalDateTime.now())
                 .build();
 
         Mockito.when(transactionService.transfer(eq(1L), eq("1234-567-890123"),
-                        eq(20000), any(), eq("메모"), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
+                        eq(20000L), any(), eq("메모"), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
                 .thenReturn(response);
 
         mockMvc.perform(post("/api/transactions/transfer")
@@ -138,7 +296,7 @@ class TransactionControllerTest {
     @Test
     void testTransfer_InsufficientBalance() throws Exception {
         Mockito.when(transactionService.transfer(eq(1L), eq("1234-567-890123"),
-                        eq(1000000), any(), any(), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
+                        eq(1000000L), any(), any(), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
                 .thenThrow(new InsufficientBalanceException("잔액이 부족합니다."));
 
         mockMvc.perform(post("/api/transactions/transfer")
@@ -153,7 +311,7 @@ class TransactionControllerTest {
     @Test
     void testTransfer_AccountNotFound() throws Exception {
         Mockito.when(transactionService.transfer(eq(99L), eq("1234-567-890123"),
-                        eq(1000), any(), any(), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
+                        eq(1000L), any(), any(), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
                 .thenThrow(new AccountNotFoundException("송금 계좌가 존재하지 않습니다."));
 
         mockMvc.perform(post("/api/transactions/transfer")
@@ -165,6 +323,149 @@ class TransactionControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testTransfer_IdempotencyKeyForwarded() throws Exception {
+        Mockito.when(transactionService.transfer(eq(1L), eq("1234-567-890123"),
+                        eq(20000L), any(), any(), eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
+                .thenReturn(TransactionResponse.builder().transactionId(300L).amount(20000L).build());
+
+        mockMvc.perform(post("/api/transactions/transfer")
+                        .header("Idempotency-Key", "retry-1")
+                        .param("senderAccountId", "1")
+                        .param("recipientAccountNumber", "1234-567-890123")
+                        .param("amount", "20000")
+                        .param("type", "TRANSFER_OUT")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionId").value(300));
+
+        Mockito.verify(idempotencyService).execute(eq(userDetails.getUserId()), eq("retry-1"),
+                startsWith("transfer|1|1234-567-890123|20000|"), any());
+    }
+
+    @Test
+    void testTransfer_IdempotencyKeyInProgress() throws Exception {
+        Mockito.doThrow(new IdempotencyConflictException("같은 Idempotency-Key 로 처리 중인 요청이 있습니다."))
+                .when(idempotencyService).execute(any(), eq("retry-1"), any(), any());
+
+        mockMvc.perform(post("/api/transactions/transfer")
+                        .header("Idempotency-Key", "retry-1")
+                        .param("senderAccountId", "1")
+                        .param("recipientAccountNumber", "1234-567-890123")
+                        .param("amount", "20000")
+                        .param("type", "TRANSFER_OUT")
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+
+        Mockito.verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void testTransferAsync_Accepted() throws Exception {
+        Mockito.when(asyncTransferService.submit(eq(1L), eq("1234-567-890123"), eq(20000L),
+                        eq(TransactionType.TRANSFER_OUT), eq(userDetails.getUserId())))
+                .thenReturn(AsyncTransferResponse.builder()
+                        .requestId("1760000000000-0")
+                        .userId(userDetails.getUserId())
+                        .state(AsyncTransferState.PENDING)
+                        .build());
+
+        mockMvc.perform(post("/api/transactions/transfer/async")
+                        .param("senderAccountId", "1")
+                        .param("recipientAccountNumber", "1234-567-890123")
+                        .param("amount", "20000")
+                        .param("type", "TRANSFER_OUT")
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.requestId").value("1760000000000-0"))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    void testGetAsyncTransfer_Completed() throws Exception {
+        Mockito.when(asyncTransferService.getStatus("1760000000000-0", userDetails.getUserId()))
+                .thenReturn(AsyncTransferResponse.builder()
+                        .requestId("1760000000000-0")
+                        .state(AsyncTransferState.COMPLETED)
+                        .transaction(TransactionResponse.builder().transactionId(300L).amount(20000L).build())
+                        .build());
+
+        mockMvc.perform(get("/api/transactions/transfer/async/{requestId}", "1760000000000-0")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.transaction.transactionId").value(300));
+    }
+
+    @Test
+    void testGetAsyncTransfer_NotFound() throws Exception {
+        Mockito.when(asyncTransferService.getStatus("unknown", userDetails.getUserId()))
+                .thenThrow(new AccountNotFoundException("해당 이체 요청이 존재하지 않습니다."));
+
+        mockMvc.perform(get("/api/transactions/transfer/async/{requestId}", "unknown")
+                        .with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testBulkTransfer_Success() throws Exception {
+        BulkTransferRequest request = BulkTransferRequest.builder()
+                .senderAccountId(1L)
+                .mode(BulkTransferMode.BEST_EFFORT)
+                .transfers(List.of(
+                        new BulkTransferRequest.Item("1234-567-890123", 20000L),
+                        new BulkTransferRequest.Item("1234-567-999999", 30000L)))
+                .build();
+
+        BulkTransferResponse response = BulkTransferResponse.builder()
+                .senderAccountId(1L)
+                .mode(BulkTransferMode.BEST_EFFORT)
+                .completedCount(1)
+                .failedCount(1)
+                .totalAmount(20000L)
+                .balance(80000L)
+                .results(List.of(
+                        BulkTransferResponse.Result.builder().index(0).recipientAccountNumber("1234-567-890123")
+                                .amount(20000L).status(TransactionStatus.COMPLETED).transactionId(300L).build(),
+                        BulkTransferResponse.Result.builder().index(1).recipientAccountNumber("1234-567-999999")
+                                .amount(30000L).status(TransactionStatus.FAILED).reason("수취 계좌가 존재하지 않습니다.").build()))
+                .build();
+
+        Mockito.when(bulkTransferService.transfer(eq(request), eq(userDetails.getUserId())))
+                .thenReturn(response);
+
+        mockMvc.perform(post("/api/transactions/transfer/bulk")
+                        .header("Idempotency-Key", "payroll-2026-10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedCount").value(1))
+                .andExpect(jsonPath("$.results[0].transactionId").value(300))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+
+        Mockito.verify(idempotencyService).execute(eq(userDetails.getUserId()), eq("payroll-2026-10"),
+                eq("bulk-transfer|1|BEST_EFFORT|1234-567-890123:20000,1234-567-999999:30000"),
+                eq(BulkTransferResponse.class), any());
+    }
+
+    @Test
+    void testBulkTransfer_EmptyTransfers() throws Exception {
+        BulkTransferRequest request = BulkTransferRequest.builder()
+                .senderAccountId(1L)
+                .transfers(List.of())
+                .build();
+
+        mockMvc.perform(post("/api/transactions/transfer/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.transfers").exists());
+
+        Mockito.verifyNoInteractions(bulkTransferService);
+    }
+
     @Test
     void testCancelScheduledTransfer_Success() throws Exception {
         doNothing().when(transactionService).cancelScheduledTransfer(eq(400L), eq(userDetails.getUserId()));
@@ -190,13 +491,13 @@ class TransactionControllerTest {
                 .transactionId(500L)
                 .senderName("홍길동")
                 .recipientName("스타벅스")
-                .amount(7000)
-                .balance(93000)
+                .amount(7000L)
+                .balance(93000L)
                 .type("TRANSFER_OUT")
                 .transactionDate(LocalDateTime.now())
                 .build();
 
-        Mockito.when(transactionService.cardPayment(eq(1L), eq(7000), eq("스타벅스")))
+        Mockito.when(transactionService.cardPayment(eq(1L), eq(7000L), eq("스타벅스")))
                 .thenReturn(response);
 
         mockMvc.perform(post("/api/transactions/card-payment")
@@ -209,9 +510,32 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(7000));
     }
 
+    @Test
+    void testCardPayment_AmountAboveIntRange() throws Exception {
+        // 21억 원을 넘는 금액도 그대로 전달/응답되는지 확인
+        TransactionResponse response = TransactionResponse.builder()
+                .transactionId(501L)
+                .amount(3_000_000_000L)
+                .balance(7_000_000_000L)
+                .type("TRANSFER_OUT")
+                .build();
+
+        Mockito.when(transactionService.cardPayment(eq(1L), eq(3_000_000_000L), eq("가맹점")))
+                .thenReturn(response);
+
+        mockMvc.perform(post("/api/transactions/card-payment")
+                        .param("accountId", "1")
+                        .param("amount", "3000000000")
+                        .param("merchantName", "가맹점")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.amount").value(3_000_000_000L))
+                .andExpect(jsonPath("$.balance").value(7_000_000_000L));
+    }
+
     @Test
     void testCardPayment_InsufficientBalance() throws Exception {
-        Mockito.when(transactionService.cardPayment(eq(1L), eq(1000000), eq("스타벅스")))
+        Mockito.when(transactionService.cardPayment(eq(1L), eq(1000000L), eq("스타벅스")))
                 .thenThrow(new InsufficientBalanceException("잔액이 부족합니다."));
 
         mockMvc.perform(post("/api/transactions/card-payment")
@@ -86,8 +86,8 @@ class AccountIntegrationTest {
         AccountCreateRequest request = AccountCreateRequest.builder()
                 .accountName("Test Account")
                 .accountType(AccountType.SAVINGS)
-                .initialAmount(10000)
-                .transferLimit(5000)
+                .initialAmount(10000L)
+                .transferLimit(5000L)
                 .authPassword("123456")
                 .build();
 
@@ -145,7 +145,7 @@ class AccountIntegrationTest {
 
         // 계좌 설정 업데이트 (1회 이체 한도)
         AccountSettingRequest accountSettingRequest = AccountSettingRequest.builder()
-                .transferLimit(50000)
+                .transferLimit(50000L)
                 .build();
 
         HttpEntity<AccountSettingRequest> settingEntity = new HttpEntity<>(accountSettingRequest, headers);
@@ -158,7 +158,7 @@ class AccountIntegrationTest {
         );
         Account updatedAccount = accountRepository.findById(1L).orElseThrow();
         assertThat(settingResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(updatedAccount.getTransferLimit()).isEqualTo(50000);
+        assertThat(updatedAccount.getTransferLimit()).isEqualTo(50000L);
 
         // 계좌 설정 업데이트 (비밀번호 변경)
         AccountSettingRequest passwordRequest = AccountSettingRequest.builder()
@@ -184,14 +184,14 @@ class AccountIntegrationTest {
         assertThat(passwordEncoder.matches("654321", passwordChangedAccount.getAuthPassword())).isTrue();
 
         // 1회 이체 한도 조회
-        ResponseEntity<Integer> getLimitResponse = restTemplate.exchange(
+        ResponseEntity<Long> getLimitResponse = restTemplate.exchange(
                 baseUrl + "/" + 1L + "/settings",
                 HttpMethod.GET,
                 getEntity,
-                Integer.class
+                Long.class
         );
 
         assertThat(getLimitResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(getLimitResponse.getBody()).isEqualTo(50000);
+        assertThat(getLimitResponse.getBody()).isEqualTo(50000L);
     }
 }
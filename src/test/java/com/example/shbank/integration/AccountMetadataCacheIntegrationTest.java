@@ -0,0 +1,206 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.AccountMetadataCache;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+
+// 계좌 메타데이터 캐시가 DB 에서 읽은 값을 메모리와 Redis 에 채우고, 커밋 뒤에 두 단계를 모두 지우며,
+// 캐시에만 남은 받는 계좌로 송금하면 계좌 없음으로 거절하고 지우는지, Redis 장애 시 DB 로 조회하는지 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+class AccountMetadataCacheIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private AccountMetadataCache accountMetadataCache;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 캐시가 쓰는 템플릿 (Redis 장애를 흉내 낼 때만 스텁, 테스트가 끝나면 원래대로)
+    @SpyBean(name = "redisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void findById_missFillsRedisAndMemory() {
+        assertThat(redisTemplate.hasKey(idKey(sender))).isFalse();
+
+        assertThat(accountMetadataCache.findById(sender.getId()))
+                .get()
+                .satisfies(metadata -> {
+                    assertThat(metadata.getAccountNumber()).isEqualTo(sender.getAccountNumber());
+                    assertThat(metadata.getUserId()).isEqualTo(owner.getId());
+                });
+        assertThat(redisTemplate.hasKey(idKey(sender))).isTrue();
+
+        // DB 와 Redis 를 캐시 모르게 바꿔도 메모리에서 이전 값을 돌려준다 (계좌번호 키로도)
+        rename(sender, "바뀐 이름");
+        redisTemplate.delete(idKey(sender));
+        assertThat(accountMetadataCache.findById(sender.getId()))
+                .get()
+                .extracting(metadata -> metadata.getAccountName())
+                .isEqualTo("계좌 " + sender.getAccountNumber());
+        assertThat(accountMetadataCache.findByAccountNumber(sender.getAccountNumber()))
+                .get()
+                .extracting(metadata -> metadata.getAccountName())
+                .isEqualTo("계좌 " + sender.getAccountNumber());
+    }
+
+    @Test
+    void evictAfterCommit_clearsBothTiersAgainAfterCommit() {
+        accountMetadataCache.findById(sender.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rename(sender, "바뀐 이름");
+            accountMetadataCache.evictAfterCommit(sender.getId(), sender.getAccountNumber());
+            // 커밋 전에 다른 요청이 커밋된 이전 값을 다시 채운다
+            assertThat(CompletableFuture.supplyAsync(() -> accountMetadataCache.findById(sender.getId())).join())
+                    .get()
+                    .extracting(metadata -> metadata.getAccountName())
+                    .isEqualTo("계좌 " + sender.getAccountNumber());
+            assertThat(redisTemplate.hasKey(idKey(sender))).isTrue();
+        });
+
+        assertThat(redisTemplate.hasKey(idKey(sender))).isFalse();
+        assertThat(accountMetadataCache.findByAccountNumber(sender.getAccountNumber()))
+                .get()
+                .extracting(metadata -> metadata.getAccountName())
+                .isEqualTo("바뀐 이름");
+    }
+
+    @Test
+    void transfer_evictsRecipientDeletedBehindTheCache() {
+        assertThat(accountMetadataCache.findByAccountNumber(recipient.getAccountNumber())).isPresent();
+        // 엔티티 리스너를 거치지 않고 삭제해 캐시에만 남긴다
+        jdbcTemplate.update("delete from accounts where id = ?", recipient.getId());
+
+        assertThatThrownBy(() -> transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 10_000L,
+                null, null, TransactionType.TRANSFER_OUT, owner.getId()))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        assertThat(accountMetadataCache.findByAccountNumber(recipient.getAccountNumber())).isEmpty();
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE);
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    void findById_fallsBackToDatabaseWhenRedisFails() {
+        doThrow(new RedisConnectionFailureException("Redis 장애")).when(redisTemplate).opsForValue();
+
+        assertThat(accountMetadataCache.findById(sender.getId()))
+                .get()
+                .extracting(metadata -> metadata.getAccountNumber())
+                .isEqualTo(sender.getAccountNumber());
+        assertThat(accountMetadataCache.findByAccountNumber(recipient.getAccountNumber()))
+                .get()
+                .extracting(metadata -> metadata.getId())
+                .isEqualTo(recipient.getId());
+    }
+
+    private void rename(Account account, String accountName) {
+        jdbcTemplate.update("update accounts set account_name = ? where id = ?", accountName, account.getId());
+    }
+
+    private static String idKey(Account account) {
+        return "account-meta:id:" + account.getId();
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
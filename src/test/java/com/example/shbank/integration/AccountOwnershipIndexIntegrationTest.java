@@ -0,0 +1,193 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.AccountOwnershipIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 계좌 소유자 인덱스가 전체 계좌를 ID 순 청크로 나눠 채우고, 인덱스에 없는 계좌는 DB 에서 한 번만 읽으며,
+// 롤백된 개설은 반영하지 않고, 없는 계좌와 남의 계좌를 구분해 거절하는지 확인
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "scheduled-transfer.enabled=false",
+        "account-ownership.warm-up-chunk-size=2"
+})
+@Testcontainers
+class AccountOwnershipIndexIntegrationTest {
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private AccountOwnershipIndex accountOwnershipIndex;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // 인덱스가 DB 를 몇 번, 어떤 범위로 읽는지 확인
+    @SpyBean
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        // 계좌 삭제는 커밋 후 인덱스에서도 지운다
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = user("owner@example.com");
+        clearInvocations(accountRepository);
+    }
+
+    @Test
+    void warmUp_loadsAllOwnersInKeysetChunks() {
+        // 저장소로 바로 저장해 인덱스에는 없는 계좌 5개
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            accounts.add(accountRepository.save(account(owner, "1234-000-00000" + i)));
+        }
+        assertThat(accountOwnershipIndex.size()).isZero();
+
+        accountOwnershipIndex.warmUp();
+
+        // 2건씩 (2, 2, 1) 읽고, 다음 청크는 앞 청크의 마지막 ID 다음부터
+        ArgumentCaptor<Long> afterIds = ArgumentCaptor.forClass(Long.class);
+        verify(accountRepository, times(3)).findOwnersAfter(afterIds.capture(), any());
+        assertThat(afterIds.getAllValues())
+                .containsExactly(0L, accounts.get(1).getId(), accounts.get(3).getId());
+
+        assertThat(accountOwnershipIndex.size()).isEqualTo(5);
+        clearInvocations(accountRepository);
+        for (Account account : accounts) {
+            assertThat(accountOwnershipIndex.ownerOf(account.getId())).isEqualTo(owner.getId());
+        }
+        verify(accountRepository, times(0)).findUserIdById(anyLong());
+    }
+
+    @Test
+    void ownerOf_missReadsDatabaseOnceAndDoesNotCacheUnknownAccounts() {
+        Account account = accountRepository.save(account(owner, "1234-000-000001"));
+
+        assertThat(accountOwnershipIndex.ownerOf(account.getId())).isEqualTo(owner.getId());
+        assertThat(accountOwnershipIndex.ownerOf(account.getId())).isEqualTo(owner.getId());
+        verify(accountRepository, times(1)).findUserIdById(account.getId());
+
+        // 없는 계좌는 곧 개설될 수 있으므로 매번 DB 를 본다
+        long missingId = account.getId() + 1_000;
+        assertThat(accountOwnershipIndex.ownerOf(missingId)).isEqualTo(AccountOwnershipIndex.UNKNOWN_OWNER);
+        assertThat(accountOwnershipIndex.ownerOf(missingId)).isEqualTo(AccountOwnershipIndex.UNKNOWN_OWNER);
+        verify(accountRepository, times(2)).findUserIdById(missingId);
+        assertThat(accountOwnershipIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putAfterCommit_isSkippedWhenTransactionRollsBack() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account account = accountRepository.save(account(owner, "1234-000-000001"));
+            accountOwnershipIndex.putAfterCommit(account.getId(), owner.getId());
+            assertThat(accountOwnershipIndex.size()).isZero();
+            status.setRollbackOnly();
+        });
+        assertThat(accountOwnershipIndex.size()).isZero();
+
+        Account committed = new TransactionTemplate(transactionManager).execute(status -> {
+            Account account = accountRepository.save(account(owner, "1234-000-000002"));
+            accountOwnershipIndex.putAfterCommit(account.getId(), owner.getId());
+            return account;
+        });
+        assertThat(accountOwnershipIndex.size()).isEqualTo(1);
+        assertThat(accountOwnershipIndex.ownerOf(committed.getId())).isEqualTo(owner.getId());
+        verify(accountRepository, times(0)).findUserIdById(anyLong());
+    }
+
+    @Test
+    void checkOwner_distinguishesMissingAccountFromOtherOwner() {
+        Account account = accountRepository.save(account(owner, "1234-000-000001"));
+        User other = user("other@example.com");
+
+        accountOwnershipIndex.checkOwner(account.getId(), owner.getId());
+
+        assertThatThrownBy(() -> accountOwnershipIndex.checkOwner(account.getId(), other.getId()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> accountOwnershipIndex.checkOwner(account.getId() + 1_000, owner.getId()))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    private User user(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .name("홍길동")
+                .password("password")
+                .build());
+    }
+
+    private Account account(User user, String accountNumber) {
+        return Account.builder()
+                .user(user)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(100_000L)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.AsyncTransferResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.AsyncTransferState;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.AsyncTransferService;
+import com.example.shbank.service.AsyncTransferSettler;
+import com.example.shbank.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 비동기 이체 접수 -> 배치 정산 -> 상태 조회 확인 (워커 없이 drain 으로 정산)
+// Idempotency-Key 로 접수하면 키가 커밋된 뒤에만 스트림에 들어가는지도 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false", "transfer.async.workers=0"})
+@Testcontainers
+class AsyncTransferIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private AsyncTransferService asyncTransferService;
+
+    @Autowired
+    private AsyncTransferSettler asyncTransferSettler;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        asyncTransferSettler.drain();
+        transactionRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        redisTemplate.delete(redisTemplate.keys("transfer-async:status:*"));
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void submit_settlesInBatchAndReportsCompletion() {
+        List<AsyncTransferResponse> accepted = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            accepted.add(submit(5_000));
+        }
+        assertThat(accepted).extracting(AsyncTransferResponse::getState).containsOnly(AsyncTransferState.PENDING);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE);
+
+        assertThat(asyncTransferSettler.drain()).isEqualTo(10);
+
+        AsyncTransferResponse last = asyncTransferService.getStatus(accepted.get(9).getRequestId(), owner.getId());
+        assertThat(last.getState()).isEqualTo(AsyncTransferState.COMPLETED);
+        assertThat(last.getTransaction().getBalance()).isEqualTo(INITIAL_BALANCE - 50_000);
+        assertThat(transactionRepository.count()).isEqualTo(10);
+        assertThat(accountRepository.findBalanceById(recipient.getId())).isEqualTo(INITIAL_BALANCE + 50_000);
+    }
+
+    @Test
+    void submit_failsOnlyRequestsThatExceedBalance() {
+        AsyncTransferResponse first = submit(70_000);
+        AsyncTransferResponse second = submit(70_000);
+        AsyncTransferResponse third = submit(30_000);
+
+        asyncTransferSettler.drain();
+
+        assertThat(asyncTransferService.getStatus(first.getRequestId(), owner.getId()).getState())
+                .isEqualTo(AsyncTransferState.COMPLETED);
+        assertThat(asyncTransferService.getStatus(second.getRequestId(), owner.getId()).getReason())
+                .isEqualTo("잔액이 부족합니다.");
+        assertThat(asyncTransferService.getStatus(third.getRequestId(), owner.getId()).getState())
+                .isEqualTo(AsyncTransferState.COMPLETED);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isZero();
+    }
+
+    @Test
+    void getStatus_readsSettledResultFromDatabaseWhenRedisLost() {
+        AsyncTransferResponse accepted = submit(1_000);
+        asyncTransferSettler.drain();
+        redisTemplate.delete(redisTemplate.keys("transfer-async:status:*"));
+
+        assertThat(asyncTransferService.getStatus(accepted.getRequestId(), owner.getId()).getState())
+                .isEqualTo(AsyncTransferState.COMPLETED);
+        assertThatThrownBy(() -> asyncTransferService.getStatus(accepted.getRequestId(), owner.getId() + 1))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    void submit_withIdempotencyKeyIsQueuedOnlyAfterCommit() {
+        AsyncTransferResponse accepted = idempotencyService.execute(owner.getId(), "key-1", "async",
+                AsyncTransferResponse.class, () -> submit(1_000));
+        AsyncTransferResponse replayed = idempotencyService.execute(owner.getId(), "key-1", "async",
+                AsyncTransferResponse.class, () -> submit(1_000));
+        assertThat(replayed.getRequestId()).isEqualTo(accepted.getRequestId());
+
+        // 키 저장과 함께 롤백된 접수는 스트림에 들어가지 않는다
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            submit(2_000);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(asyncTransferSettler.drain()).isEqualTo(1);
+        assertThat(asyncTransferService.getStatus(accepted.getRequestId(), owner.getId()).getState())
+                .isEqualTo(AsyncTransferState.COMPLETED);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 1_000);
+    }
+
+    private AsyncTransferResponse submit(long amount) {
+        return asyncTransferService.submit(sender.getId(), recipient.getAccountNumber(), amount,
+                TransactionType.TRANSFER_OUT, owner.getId());
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.BulkTransferRequest;
+import com.example.shbank.dto.transaction.BulkTransferResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.BulkTransferMode;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.BulkTransferService;
+import com.example.shbank.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 일괄 이체의 잔액 반영, 처리 방식(ALL_OR_NOTHING/BEST_EFFORT), 재시도 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+class BulkTransferIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private BulkTransferService bulkTransferService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private User owner;
+    private Account sender;
+    private Account first;
+    private Account second;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        redisTemplate.delete(redisTemplate.keys("idempotency*"));
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        first = accountRepository.save(account("1234-000-000002"));
+        second = accountRepository.save(account("1234-000-000003"));
+    }
+
+    @Test
+    void transfer_debitsSenderOnceAndCreditsEachRecipient() {
+        BulkTransferResponse response = bulkTransferService.transfer(request(BulkTransferMode.ALL_OR_NOTHING,
+                item(first, 10_000), item(second, 20_000), item(first, 5_000)), owner.getId());
+
+        assertThat(response.getCompletedCount()).isEqualTo(3);
+        assertThat(response.getTotalAmount()).isEqualTo(35_000);
+        assertThat(response.getBalance()).isEqualTo(INITIAL_BALANCE - 35_000);
+        // 거래별 잔액은 요청 순서대로 출금했을 때의 잔액
+        assertThat(transactionRepository.findAllById(response.getResults().stream()
+                .map(BulkTransferResponse.Result::getTransactionId).toList()))
+                .extracting(t -> t.getBalance())
+                .containsExactlyInAnyOrder(INITIAL_BALANCE - 10_000, INITIAL_BALANCE - 30_000, INITIAL_BALANCE - 35_000);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 35_000);
+        assertThat(accountRepository.findBalanceById(first.getId())).isEqualTo(INITIAL_BALANCE + 15_000);
+        assertThat(accountRepository.findBalanceById(second.getId())).isEqualTo(INITIAL_BALANCE + 20_000);
+    }
+
+    @Test
+    void transfer_allOrNothingSkipsEverythingWhenOneItemFails() {
+        BulkTransferResponse response = bulkTransferService.transfer(request(BulkTransferMode.ALL_OR_NOTHING,
+                item(first, 10_000), new BulkTransferRequest.Item("1234-999-999999", 1_000L)), owner.getId());
+
+        assertThat(response.getCompletedCount()).isZero();
+        assertThat(response.getResults()).extracting(BulkTransferResponse.Result::getStatus)
+                .containsOnly(TransactionStatus.FAILED);
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE);
+    }
+
+    @Test
+    void transfer_allOrNothingRejectsWhenTotalExceedsBalance() {
+        assertThatThrownBy(() -> bulkTransferService.transfer(request(BulkTransferMode.ALL_OR_NOTHING,
+                item(first, 60_000), item(second, 60_000)), owner.getId()))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(accountRepository.findBalanceById(first.getId())).isEqualTo(INITIAL_BALANCE);
+    }
+
+    @Test
+    void transfer_bestEffortProcessesItemsThatFit() {
+        BulkTransferResponse response = bulkTransferService.transfer(request(BulkTransferMode.BEST_EFFORT,
+                item(first, 60_000),
+                new BulkTransferRequest.Item("1234-999-999999", 1_000L),
+                item(second, 60_000),
+                item(second, 40_000)), owner.getId());
+
+        assertThat(response.getResults()).extracting(BulkTransferResponse.Result::getStatus)
+                .containsExactly(TransactionStatus.COMPLETED, TransactionStatus.FAILED,
+                        TransactionStatus.FAILED, TransactionStatus.COMPLETED);
+        assertThat(response.getBalance()).isZero();
+        assertThat(transactionRepository.count()).isEqualTo(2);
+        assertThat(accountRepository.findBalanceById(second.getId())).isEqualTo(INITIAL_BALANCE + 40_000);
+    }
+
+    @Test
+    void transfer_retryWithSameKeyReplaysFirstResponse() {
+        BulkTransferRequest request = request(BulkTransferMode.ALL_OR_NOTHING, item(first, 10_000), item(second, 10_000));
+
+        BulkTransferResponse response = idempotencyService.execute(owner.getId(), "payroll-1", "bulk|1",
+                BulkTransferResponse.class, () -> bulkTransferService.transfer(request, owner.getId()));
+        BulkTransferResponse retried = idempotencyService.execute(owner.getId(), "payroll-1", "bulk|1",
+                BulkTransferResponse.class, () -> bulkTransferService.transfer(request, owner.getId()));
+
+        assertThat(retried).isEqualTo(response);
+        assertThat(transactionRepository.count()).isEqualTo(2);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 20_000);
+    }
+
+    private BulkTransferRequest request(BulkTransferMode mode, BulkTransferRequest.Item... items) {
+        return BulkTransferRequest.builder()
+                .senderAccountId(sender.getId())
+                .mode(mode)
+                .transfers(List.of(items))
+                .build();
+    }
+
+    private BulkTransferRequest.Item item(Account recipient, long amount) {
+        return new BulkTransferRequest.Item(recipient.getAccountNumber(), amount);
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
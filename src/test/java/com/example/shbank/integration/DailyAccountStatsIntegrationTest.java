@@ -0,0 +1,197 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.BulkTransferRequest;
+import com.example.shbank.dto.transaction.TransactionHistoryResponse;
+import com.example.shbank.dto.transaction.TransactionStatsResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.BulkTransferMode;
+import com.example.shbank.enums.StatsPeriod;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.DailyAccountStatsDeltaRepository;
+import com.example.shbank.repository.DailyAccountStatsRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.BulkTransferService;
+import com.example.shbank.service.DailyAccountStatsService;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 거래를 저장할 때 쌓인 증분이 일별 집계에 더해지고, 기간별 통계와 거래 합계가 일별 집계에서 나오는지 확인
+// (지난 날짜 집계는 직접 넣는다, 주기 작업은 꺼 두고 rollUp 을 직접 호출)
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+class DailyAccountStatsIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BulkTransferService bulkTransferService;
+
+    @Autowired
+    private DailyAccountStatsService dailyAccountStatsService;
+
+    @Autowired
+    private DailyAccountStatsRepository dailyAccountStatsRepository;
+
+    @Autowired
+    private DailyAccountStatsDeltaRepository dailyAccountStatsDeltaRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        dailyAccountStatsDeltaRepository.deleteAll();
+        dailyAccountStatsRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void transactions_areRolledUpAndServeStatsAndTotals() {
+        transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 30_000L, null, null,
+                TransactionType.TRANSFER_OUT, owner.getId());
+        transactionService.cardPayment(sender.getId(), 5_000L, "가맹점");
+        bulkTransferService.transfer(BulkTransferRequest.builder()
+                .senderAccountId(sender.getId())
+                .mode(BulkTransferMode.ALL_OR_NOTHING)
+                .transfers(List.of(new BulkTransferRequest.Item(recipient.getAccountNumber(), 1_000L),
+                        new BulkTransferRequest.Item(recipient.getAccountNumber(), 2_000L)))
+                .build(), owner.getId());
+        LocalDate today = LocalDate.now();
+
+        // 더하기 전에도 증분이 합쳐져 보인다
+        assertThat(stats(StatsPeriod.DAY, today, today)).singleElement().satisfies(stat -> {
+            assertThat(stat.getPeriodStart()).isEqualTo(today);
+            assertThat(stat.getTotalOut()).isEqualTo(38_000);
+            assertThat(stat.getTransactionCount()).isEqualTo(4);
+        });
+
+        dailyAccountStatsService.rollUp();
+        assertThat(dailyAccountStatsDeltaRepository.count()).isZero();
+        assertThat(stats(StatsPeriod.DAY, today, today)).singleElement()
+                .satisfies(stat -> assertThat(stat.getTotalOut()).isEqualTo(38_000));
+
+        // 지난 날짜 집계를 넣고 월/연 단위로 묶는다
+        addPast(LocalDate.of(2019, 12, 31), 100, 200);
+        addPast(LocalDate.of(2020, 1, 15), 1_000, 0);
+        addPast(LocalDate.of(2020, 1, 20), 500, 300);
+
+        List<TransactionStatsResponse> monthly = stats(StatsPeriod.MONTH, LocalDate.of(2019, 1, 1), null);
+        assertThat(monthly).extracting(TransactionStatsResponse::getPeriodStart)
+                .containsExactly(LocalDate.of(2019, 12, 1), LocalDate.of(2020, 1, 1), today.withDayOfMonth(1));
+        assertThat(monthly.get(1).getTotalIn()).isEqualTo(1_500);
+        assertThat(monthly.get(1).getNetChange()).isEqualTo(1_200);
+        assertThat(monthly.get(1).getTransactionCount()).isEqualTo(2);
+
+        List<TransactionStatsResponse> yearly = stats(StatsPeriod.YEAR, null, LocalDate.of(2020, 12, 31));
+        assertThat(yearly).extracting(TransactionStatsResponse::getPeriodStart)
+                .containsExactly(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 1, 1));
+
+        // 거래 합계: 하루 단위로 끊어지는 날은 일별 집계, 나머지는 거래에서
+        TransactionHistoryResponse all = summary(null, null, null);
+        assertThat(all.getTotalIn()).isEqualTo(1_600);
+        assertThat(all.getTotalOut()).isEqualTo(38_500);
+        assertThat(summary(TransactionType.TRANSFER_OUT, null, null).getTotalIn()).isZero();
+        assertThat(summary(null, LocalDate.of(2020, 1, 1).atStartOfDay(), LocalDateTime.of(2020, 1, 15, 12, 0))
+                .getTotalIn()).isZero();
+        assertThat(summary(null, LocalDate.of(2020, 1, 1).atStartOfDay(), LocalDateTime.of(2020, 1, 16, 0, 0))
+                .getTotalIn()).isEqualTo(1_000);
+        assertThat(summary(null, today.atStartOfDay(), LocalDateTime.now().plusMinutes(1)).getTotalOut())
+                .isEqualTo(38_000);
+        assertThat(summary(null, LocalDateTime.now().minusHours(1), null).getTotalOut()).isEqualTo(38_000);
+    }
+
+    private List<TransactionStatsResponse> stats(StatsPeriod period, LocalDate from, LocalDate to) {
+        return transactionService.getTransactionStats(sender.getId(), owner.getId(), period, from, to);
+    }
+
+    private TransactionHistoryResponse summary(TransactionType type, LocalDateTime start, LocalDateTime end) {
+        return transactionService.getTransactionSummary(sender.getId(), owner.getId(), type, start, end);
+    }
+
+    private void addPast(LocalDate date, long totalIn, long totalOut) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                dailyAccountStatsRepository.add(sender.getId(), date, totalIn, totalOut, 1));
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.transaction.IdempotencyConflictException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.IdempotencyRecordRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.IdempotencyService;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 같은 Idempotency-Key 로 재시도해도 거래가 한 번만 생기는지 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+class IdempotencyIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+    private static final String REQUEST = "transfer|1000";
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        redisTemplate.delete(redisTemplate.keys("idempotency*"));
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void execute_replaysFirstResponse() {
+        TransactionResponse first = idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+        TransactionResponse retried = idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 1_000);
+    }
+
+    @Test
+    void execute_replaysFromDatabaseWhenRedisLost() {
+        TransactionResponse first = idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+        redisTemplate.delete(redisTemplate.keys("idempotency*"));
+
+        TransactionResponse retried = idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_rejectsDifferentRequestWithSameKey() {
+        idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+
+        assertThatThrownBy(() -> idempotencyService.execute(owner.getId(), "key-1", "transfer|2000", transfer()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_sameKeyFromOtherUserIsSeparate() {
+        User other = userRepository.save(User.builder()
+                .email("other@example.com")
+                .name("김철수")
+                .password("password")
+                .build());
+
+        idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+        idempotencyService.execute(other.getId(), "key-1", REQUEST, transfer());
+
+        assertThat(transactionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_concurrentDuplicatesCreateOneTransaction() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<TransactionResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return idempotencyService.execute(owner.getId(), "key-1", REQUEST, transfer());
+            }));
+        }
+        start.countDown();
+
+        // 처리 중에 들어온 중복 요청은 409, 처리 후에 들어온 요청은 첫 응답을 받는다
+        List<Long> transactionIds = new ArrayList<>();
+        for (Future<TransactionResponse> result : results) {
+            try {
+                transactionIds.add(result.get().getTransactionId());
+            } catch (Exception e) {
+                assertThat(e.getCause()).isInstanceOf(IdempotencyConflictException.class);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(transactionIds).isNotEmpty().containsOnly(transactionIds.get(0));
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 1_000);
+    }
+
+    private Supplier<TransactionResponse> transfer() {
+        return () -> transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 1_000L, null, null,
+                TransactionType.TRANSFER_OUT, owner.getId());
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.LedgerEntry;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.account.AccountNotFoundException;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.AccountMetadataCache;
+import com.example.shbank.service.AccountOwnershipIndex;
+import com.example.shbank.service.LedgerService;
+import com.example.shbank.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 입금이 원장에 쌓이고 (받는 계좌 스냅샷은 그대로), 잔액 조회와 출금이 원장을 더해 보며,
+// compact 가 원장을 스냅샷에 반영해도 잔액이 바뀌지 않는지 확인
+// 캐시에 남은 보내는 계좌가 삭제되었으면 잔액 부족이 아닌 계좌 없음으로 거절하고 캐시를 지우는지 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false"})
+@Testcontainers
+class LedgerIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountMetadataCache accountMetadataCache;
+
+    @Autowired
+    private AccountOwnershipIndex accountOwnershipIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void transfer_appendsCreditWithoutTouchingRecipientSnapshot() {
+        Long transactionId = transfer(sender, recipient, 30_000).getTransactionId();
+
+        assertThat(snapshot(recipient)).isEqualTo(INITIAL_BALANCE);
+        assertThat(accountRepository.findBalanceById(recipient.getId())).isEqualTo(INITIAL_BALANCE + 30_000);
+        assertThat(ledgerEntryRepository.findAll())
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getAccountId()).isEqualTo(recipient.getId());
+                    assertThat(entry.getTransactionId()).isEqualTo(transactionId);
+                    assertThat(entry.getAmount()).isEqualTo(30_000);
+                    assertThat(entry.isCompacted()).isFalse();
+                });
+    }
+
+    @Test
+    void withdraw_canSpendCreditsNotYetCompacted() {
+        transfer(sender, recipient, 50_000);
+
+        // 스냅샷(100,000)보다 많지만 원장을 더한 잔액(150,000) 안이면 출금된다
+        transfer(recipient, sender, 140_000);
+        assertThat(accountRepository.findBalanceById(recipient.getId())).isEqualTo(10_000);
+
+        assertThatThrownBy(() -> transfer(recipient, sender, 10_001))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    void compact_rollsCreditsIntoSnapshotWithoutChangingBalance() {
+        transfer(sender, recipient, 10_000);
+        transfer(sender, recipient, 20_000);
+        transfer(recipient, sender, 5_000);
+
+        assertThat(ledgerService.compact()).isEqualTo(3);
+        assertThat(ledgerService.compact()).isZero();
+
+        assertThat(snapshot(sender)).isEqualTo(INITIAL_BALANCE - 25_000);
+        assertThat(snapshot(recipient)).isEqualTo(INITIAL_BALANCE + 25_000);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isEqualTo(INITIAL_BALANCE - 25_000);
+        assertThat(accountRepository.findBalanceById(recipient.getId())).isEqualTo(INITIAL_BALANCE + 25_000);
+        assertThat(ledgerEntryRepository.findAll()).allMatch(LedgerEntry::isCompacted);
+    }
+
+    @Test
+    void withdraw_deletedSenderIsNotFoundAndEvictedFromCache() {
+        // 소유자 인덱스와 메타데이터 캐시에 올린 뒤 계좌만 삭제
+        accountOwnershipIndex.ownerOf(sender.getId());
+        assertThat(accountMetadataCache.findById(sender.getId())).isPresent();
+        accountRepository.deleteById(sender.getId());
+
+        double insufficient = insufficientBalanceCount();
+        assertThatThrownBy(() -> transfer(sender, recipient, 1_000))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        assertThat(insufficientBalanceCount()).isEqualTo(insufficient);
+        assertThat(accountMetadataCache.findById(sender.getId())).isEmpty();
+    }
+
+    private double insufficientBalanceCount() {
+        return meterRegistry.counter("shbank.balance.insufficient", "operation", "transfer").count();
+    }
+
+    private TransactionResponse transfer(Account from, Account to, long amount) {
+        return transactionService.transfer(from.getId(), to.getAccountNumber(), amount, null, null,
+                TransactionType.TRANSFER_OUT, owner.getId());
+    }
+
+    private long snapshot(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getBalance();
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountStatus;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.ScheduledTransferExecutor;
+import com.example.shbank.service.ScheduledTransferMetrics;
+import com.example.shbank.service.ScheduledTransferWheel;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예약 송금 실행기: 실행 시각이 된 송금만 정확히 한 번 실행되는지 확인
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "scheduled-transfer.enabled=false",
+        "scheduled-transfer.batch-size=10"
+})
+@Testcontainers
+class ScheduledTransferExecutorTest {
+
+    private static final long INITIAL_BALANCE = 1_000_000;
+    private static final long AMOUNT = 1_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+    }
+
+    @Autowired
+    private ScheduledTransferExecutor scheduledTransferExecutor;
+
+    @Autowired
+    private ScheduledTransferWheel scheduledTransferWheel;
+
+    @Autowired
+    private ScheduledTransferMetrics metrics;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private List<Account> senders;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+
+        senders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            senders.add(accountRepository.save(account(String.format("1234-000-%06d", i + 1), AccountStatus.ACTIVE)));
+        }
+        recipient = accountRepository.save(account("1234-000-000100", AccountStatus.ACTIVE));
+    }
+
+    @AfterEach
+    void resetPartition() {
+        ReflectionTestUtils.setField(scheduledTransferExecutor, "partitionCount", 1);
+        ReflectionTestUtils.setField(scheduledTransferExecutor, "partitionIndex", 0);
+    }
+
+    @Test
+    void executeDue_completesOnlyDueTransfers() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            due.add(schedule(senders.get(i % senders.size()), recipient, now.plusHours(1)));
+        }
+        Long later = schedule(senders.get(0), recipient, now.plusDays(3));
+
+        int processed = scheduledTransferExecutor.executeDue(now.plusDays(1));
+
+        assertThat(processed).isEqualTo(25);
+        assertThat(transactionRepository.findAllById(due))
+                .allSatisfy(tx -> assertThat(tx.getStatus()).isEqualTo(TransactionStatus.COMPLETED));
+        assertThat(transactionRepository.findById(later).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.SCHEDULED);
+        assertThat(balanceOf(recipient)).isEqualTo(INITIAL_BALANCE + 25 * AMOUNT);
+        assertThat(metrics.getLastMaxLagMillis()).isNotNegative();
+
+        // 다시 실행해도 이미 처리한 송금은 건너뛴다
+        assertThat(scheduledTransferExecutor.executeDue(now.plusDays(1))).isZero();
+        assertThat(balanceOf(recipient)).isEqualTo(INITIAL_BALANCE + 25 * AMOUNT);
+    }
+
+    @Test
+    void executeDue_refundsWhenRecipientClosed() {
+        Account closed = accountRepository.save(account("1234-000-000200", AccountStatus.CLOSED));
+        Long id = schedule(senders.get(0), closed, LocalDateTime.now().plusHours(1));
+
+        scheduledTransferExecutor.executeDue(LocalDateTime.now().plusDays(1));
+
+        assertThat(transactionRepository.findById(id).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.FAILED);
+        assertThat(balanceOf(senders.get(0))).isEqualTo(INITIAL_BALANCE);
+        assertThat(balanceOf(closed)).isEqualTo(INITIAL_BALANCE);
+    }
+
+    @Test
+    void executeDue_onlyOwnPartition() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Account sender : senders) {
+            schedule(sender, recipient, now.plusHours(1));
+        }
+        ReflectionTestUtils.setField(scheduledTransferExecutor, "partitionCount", 2);
+        ReflectionTestUtils.setField(scheduledTransferExecutor, "partitionIndex", 1);
+
+        scheduledTransferExecutor.executeDue(now.plusDays(1));
+
+        assertThat(transactionRepository.findAll()).allSatisfy(tx -> assertThat(tx.getStatus()).isEqualTo(
+                tx.getSenderAccount().getId() % 2 == 1 ? TransactionStatus.COMPLETED : TransactionStatus.SCHEDULED));
+    }
+
+    @Test
+    void executeDue_concurrentWorkersExecuteEachTransferOnce() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        int count = 200;
+        for (int i = 0; i < count; i++) {
+            schedule(senders.get(i % senders.size()), recipient, now.plusMinutes(i));
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Callable<Integer> worker = () -> scheduledTransferExecutor.executeDue(now.plusDays(1));
+            results.add(workers.submit(worker));
+        }
+        int processed = 0;
+        for (Future<Integer> result : results) {
+            processed += result.get();
+        }
+        workers.shutdown();
+
+        // 한 번의 실행에서 못 잡은 송금은 다음 주기에 처리된다
+        processed += scheduledTransferExecutor.executeDue(now.plusDays(1));
+
+        assertThat(processed).isEqualTo(count);
+        assertThat(balanceOf(recipient)).isEqualTo(INITIAL_BALANCE + count * AMOUNT);
+    }
+
+    @Test
+    void executeDue_continuesPastTransfersLockedByOtherWorker() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            ids.add(schedule(senders.get(i % senders.size()), recipient, now.plusMinutes(i)));
+        }
+
+        // 다른 워커가 앞의 한 배치(10건)를 잡고 있는 동안 실행한다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService otherWorker = Executors.newSingleThreadExecutor();
+        Future<?> holder = otherWorker.submit(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    ids.subList(0, 10).forEach(transactionRepository::findByIdForUpdate);
+                    locked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        locked.await();
+
+        try {
+            // 잡힌 10건을 다시 고르며 맴돌지 않고 그다음 5건을 처리한다
+            assertThat(scheduledTransferExecutor.executeDue(now.plusDays(1))).isEqualTo(5);
+        } finally {
+            release.countDown();
+            holder.get();
+            otherWorker.shutdown();
+        }
+        assertThat(transactionRepository.findAllById(ids.subList(10, 15)))
+                .allSatisfy(tx -> assertThat(tx.getStatus()).isEqualTo(TransactionStatus.COMPLETED));
+        assertThat(scheduledTransferExecutor.executeDue(now.plusDays(1))).isEqualTo(10);
+    }
+
+    @Test
+    void executeIds_skipsCanceledTransfers() {
+        LocalDateTime now = LocalDateTime.now();
+        Long kept = schedule(senders.get(0), recipient, now.plusHours(1));
+        Long canceled = schedule(senders.get(0), recipient, now.plusHours(1));
+        transactionService.cancelScheduledTransfer(canceled, owner.getId());
+
+        assertThat(scheduledTransferExecutor.executeIds(List.of(kept, canceled))).isEqualTo(1);
+        assertThat(transactionRepository.findById(canceled).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.CANCELED);
+        assertThat(balanceOf(recipient)).isEqualTo(INITIAL_BALANCE + AMOUNT);
+    }
+
+    @Test
+    void wheel_firesTransferAtScheduleDate() throws Exception {
+        scheduledTransferWheel.load();
+        LocalDateTime scheduleDate = LocalDateTime.now().plusSeconds(1);
+        Long id = schedule(senders.get(0), recipient, scheduleDate);
+
+        // 적재 범위 안에서 새로 예약된 송금은 커밋 후 휠에 바로 올라가 예약 시각에 실행된다
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (transactionRepository.findById(id).orElseThrow().getStatus() == TransactionStatus.SCHEDULED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(transactionRepository.findById(id).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.COMPLETED);
+        assertThat(LocalDateTime.now()).isAfterOrEqualTo(scheduleDate);
+        assertThat(balanceOf(recipient)).isEqualTo(INITIAL_BALANCE + AMOUNT);
+    }
+
+    private Long schedule(Account sender, Account to, LocalDateTime scheduleDate) {
+        return transactionService.transfer(sender.getId(), to.getAccountNumber(), AMOUNT, scheduleDate, null,
+                TransactionType.TRANSFER_OUT, owner.getId()).getTransactionId();
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findBalanceById(account.getId());
+    }
+
+    private Account account(String accountNumber, AccountStatus status) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .status(status)
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
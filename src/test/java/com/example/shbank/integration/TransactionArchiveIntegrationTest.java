@@ -0,0 +1,209 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.TransactionHistoryResponse;
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.ArchivedTransactionRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.TransactionArchiver;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 보관 기준일 이전 거래가 보관 테이블로 옮겨지고, 거래 내역/합계 조회가 두 테이블을 이어서 보여 주는지 확인
+// (보관 기간 1개월, 거래일시는 저장 후 직접 앞당긴다)
+// 보관 테이블을 schema.sql 처럼 p_future 하나로 나누면 옮기기 전에 월별 파티션이 만들어지는지도 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false",
+        "transaction-archive.enabled=true", "transaction-archive.retention-months=1"})
+@Testcontainers
+class TransactionArchiveIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionArchiver transactionArchiver;
+
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        archivedTransactionRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void archive_movesOldTransactionsAndHistorySpansBothTables() {
+        LocalDateTime old = transactionArchiver.cutoff().minusDays(10);
+        List<Long> archivedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long id = transfer(1_000L * (i + 1)).getTransactionId();
+            backdate(id, old.plusDays(i));
+            archivedIds.add(id);
+        }
+        Long paymentId = transactionService.cardPayment(sender.getId(), 500L, "가맹점").getTransactionId();
+        backdate(paymentId, old.minusDays(1));
+        archivedIds.add(paymentId);
+        Long recentId = transfer(10_000L).getTransactionId();
+        Long scheduledId = transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 7_000L,
+                LocalDateTime.now().plusDays(1), "예약", TransactionType.TRANSFER_OUT, owner.getId())
+                .getTransactionId();
+        backdate(scheduledId, old);
+
+        assertThat(transactionArchiver.archive()).isEqualTo(4);
+        assertThat(transactionRepository.findAll()).extracting(t -> t.getId())
+                .containsExactlyInAnyOrder(recentId, scheduledId);
+        assertThat(archivedTransactionRepository.findById(paymentId).orElseThrow().getMerchantName())
+                .isEqualTo("가맹점");
+
+        // 한 건씩 넘기며 최신순으로 두 테이블을 이어서 읽는다
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionHistoryResponse page = transactionService.getTransactionHistory(
+                    sender.getId(), owner.getId(), null, null, null, cursor, 2);
+            page.getTransactions().forEach(tx -> ids.add(tx.getTransactionId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(ids).containsExactly(recentId, archivedIds.get(2), archivedIds.get(1), scheduledId,
+                archivedIds.get(0), paymentId);
+
+        TransactionHistoryResponse summary = transactionService.getTransactionSummary(
+                sender.getId(), owner.getId(), null, null, null);
+        assertThat(summary.getTotalOut()).isEqualTo(1_000 + 2_000 + 3_000 + 500 + 10_000 + 7_000);
+
+        // 기준일 이후만 조회하면 보관 테이블은 보지 않는다
+        TransactionHistoryResponse recent = transactionService.getTransactionHistory(sender.getId(), owner.getId(),
+                null, transactionArchiver.cutoff(), null, null, 10);
+        assertThat(recent.getTransactions()).extracting(TransactionResponse::getTransactionId)
+                .containsExactly(recentId);
+    }
+
+    @Test
+    void archive_splitsFuturePartitionByMonth() {
+        partitionArchiveTable();
+        LocalDateTime cutoff = transactionArchiver.cutoff();
+        backdate(transfer(1_000L).getTransactionId(), cutoff.minusMonths(2).plusDays(3));
+        backdate(transfer(2_000L).getTransactionId(), cutoff.minusDays(10));
+
+        assertThat(transactionArchiver.archive()).isEqualTo(2);
+        String lastMonth = "p" + cutoff.minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy_MM"));
+        assertThat(jdbcTemplate.queryForList("""
+                select partition_name from information_schema.partitions
+                where table_schema = database() and table_name = 'transactions_archive'
+                order by partition_ordinal_position
+                """, String.class))
+                .containsExactly("p" + cutoff.minusMonths(2).format(DateTimeFormatter.ofPattern("yyyy_MM")),
+                        lastMonth, "p_future");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from transactions_archive partition (" + lastMonth + ")",
+                Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from transactions_archive partition (p_future)",
+                Long.class)).isZero();
+
+        // 이미 기준일 이전 달까지 있으면 더 나누지 않는다
+        assertThat(transactionArchiver.ensurePartitions(cutoff)).isZero();
+    }
+
+    // Hibernate 가 만든 보관 테이블을 schema.sql 과 같은 모양으로 (PK 에 거래일시, p_future 파티션 하나)
+    private void partitionArchiveTable() {
+        jdbcTemplate.execute("alter table transactions_archive drop primary key, add primary key (id, transaction_date)");
+        jdbcTemplate.execute("""
+                alter table transactions_archive partition by range columns(transaction_date) (
+                    partition p_future values less than (maxvalue))
+                """);
+    }
+
+    private TransactionResponse transfer(long amount) {
+        return transactionService.transfer(sender.getId(), recipient.getAccountNumber(), amount, null, null,
+                TransactionType.TRANSFER_OUT, owner.getId());
+    }
+
+    private void backdate(Long transactionId, LocalDateTime date) {
+        jdbcTemplate.update("update transactions set transaction_date = ? where id = ?", date, transactionId);
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
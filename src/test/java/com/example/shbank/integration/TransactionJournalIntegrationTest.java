@@ -0,0 +1,129 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.TransactionJournal;
+import com.example.shbank.service.TransactionService;
+import com.example.shbank.util.LongLongHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 커밋된 이체/카드 결제만 저널에 남고, 저널만 읽어 계좌별 입출금 합계를 다시 만들 수 있는지 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false",
+        "journal.enabled=true", "journal.fsync=ALWAYS"})
+@Testcontainers
+class TransactionJournalIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @TempDir
+    static Path journalDirectory;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+        registry.add("journal.directory", journalDirectory::toString);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionJournal transactionJournal;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void committedTransactions_areJournaledAndReplayed() {
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        Account sender = accountRepository.save(account(owner, "1234-000-000001"));
+        Account recipient = accountRepository.save(account(owner, "1234-000-000002"));
+
+        Long transferId = transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 30_000L,
+                null, null, TransactionType.TRANSFER_OUT, owner.getId()).getTransactionId();
+        Long paymentId = transactionService.cardPayment(recipient.getId(), 5_000L, "가맹점").getTransactionId();
+        // 롤백된 거래는 남지 않는다
+        assertThatThrownBy(() -> transactionService.cardPayment(sender.getId(), INITIAL_BALANCE, "가맹점"))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        List<TransactionJournal.Entry> entries = new ArrayList<>();
+        assertThat(transactionJournal.replay(entries::add)).isEqualTo(2);
+        assertThat(entries).extracting(TransactionJournal.Entry::transactionId).containsExactly(transferId, paymentId);
+        assertThat(entries.get(0).senderAccountId()).isEqualTo(sender.getId());
+        assertThat(entries.get(0).recipientAccountId()).isEqualTo(recipient.getId());
+        assertThat(entries.get(0).amount()).isEqualTo(30_000);
+        assertThat(entries.get(1).recipientAccountId()).isZero();
+        assertThat(entries).extracting(TransactionJournal.Entry::status).containsOnly(TransactionStatus.COMPLETED);
+
+        LongLongHashMap changes = transactionJournal.netChangeByAccount();
+        assertThat(changes.get(sender.getId(), 0L)).isEqualTo(-30_000);
+        assertThat(changes.get(recipient.getId(), 0L)).isEqualTo(25_000);
+    }
+
+    private static Account account(User owner, String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.ScheduledTransferResponse;
+import com.example.shbank.dto.transaction.TransactionHistoryResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.ScheduledTransfer;
+import com.example.shbank.entity.Transaction;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.TransactionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 거래 내역/예약 송금 조회가 건수와 상관없이 고정된 쿼리 수로 처리되는지 확인
+// 통계는 애플리케이션 전체 기준이므로 주기 작업(예약 송금 점검, 입금 원장/일별 집계 반영)의 쿼리가 섞이지 않도록 끈다
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "scheduled-transfer.enabled=false"})
+@Testcontainers
+class TransactionQueryCountTest {
+
+    private static final int TRANSACTION_COUNT = 30;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private Account sender;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+
+        sender = accountRepository.save(account(owner, "1234-000-000001", "보내는 계좌"));
+
+        // 수취 계좌를 거래마다 다르게 두어 lazy 로딩이 있으면 쿼리 수가 건수만큼 늘어나도록 한다
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            Account recipient = accountRepository.save(
+                    account(owner, String.format("1234-000-%06d", i + 2), "받는 계좌 " + i));
+
+            boolean scheduled = i % 2 == 0;
+            Transaction transaction = Transaction.builder()
+                    .senderAccount(sender)
+                    .recipientAccount(recipient)
+                    .amount(1000L)
+                    .balance(100000L - 1000L * (i + 1))
+                    .type(TransactionType.TRANSFER_OUT)
+                    .status(scheduled ? TransactionStatus.SCHEDULED : TransactionStatus.COMPLETED)
+                    .build();
+
+            if (scheduled) {
+                transaction.linkScheduledTransfer(ScheduledTransfer.builder()
+                        .transaction(transaction)
+                        .scheduleDate(LocalDateTime.now().plusDays(1))
+                        .memo("예약 " + i)
+                        .build());
+            }
+            transactionRepository.save(transaction);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getTransactionHistory_usesConstantStatements() {
+        TransactionHistoryResponse response = transactionService.getTransactionHistory(
+                sender.getId(), owner.getId(), null, null, null, null, TRANSACTION_COUNT);
+
+        assertThat(response.getTransactions()).hasSize(TRANSACTION_COUNT);
+        assertThat(response.getTransactions())
+                .allSatisfy(tx -> assertThat(tx.getRecipientName()).startsWith("받는 계좌"));
+        // 계좌 조회 + 거래 ID 조회 + 거래 조회 + 합계 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void getScheduledTransfers_usesConstantStatements() {
+        List<ScheduledTransferResponse> response =
+                transactionService.getScheduledTransfers(sender.getId(), owner.getId());
+
+        assertThat(response).hasSize(TRANSACTION_COUNT / 2);
+        assertThat(response).allSatisfy(tx -> assertThat(tx.getRecipientName()).startsWith("받는 계좌"));
+        // 계좌 조회 + 예약 송금 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Account account(User user, String accountNumber, String accountName) {
+        return Account.builder()
+                .user(user)
+                .accountNumber(accountNumber)
+                .accountName(accountName)
+                .balance(100000L)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionStatus;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.transaction.ConcurrentTransferException;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.AccountLocker;
+import com.example.shbank.service.LedgerService;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 같은 계좌들 사이에서 양방향 이체, 카드 결제, 예약 송금/취소를 섞어 실행해도
+// 잔액 합계가 보존되는지 확인 (예약 취소 경로는 잠금 방식별로 실행, 입금 원장 반영도 함께 돈다)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers
+class TransferConcurrencyTest {
+
+    private static final int ACCOUNT_COUNT = 5;
+    private static final long INITIAL_BALANCE = 100_000;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 50;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountLocker accountLocker;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+
+        accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .user(owner)
+                    .accountNumber(String.format("1234-000-%06d", i + 1))
+                    .accountName("계좌 " + i)
+                    .balance(INITIAL_BALANCE)
+                    .authPassword("password")
+                    .type(AccountType.CHECKING)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void resetLockMode() {
+        ReflectionTestUtils.setField(accountLocker, "lockMode", AccountLocker.LockMode.PESSIMISTIC);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccountLocker.LockMode.class)
+    void concurrentTransfers_conserveTotalBalance(AccountLocker.LockMode lockMode) throws Exception {
+        ReflectionTestUtils.setField(accountLocker, "lockMode", lockMode);
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> scheduledIds = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    Account from = accounts.get(random.nextInt(ACCOUNT_COUNT));
+                    Account to = accounts.get(random.nextInt(ACCOUNT_COUNT));
+                    int action = random.nextInt(10);
+                    try {
+                        if (action == 0) {
+                            transactionService.cardPayment(from.getId(), 1_000L, "가맹점");
+                        } else if (action == 1) {
+                            scheduledIds.add(transactionService.transfer(from.getId(), to.getAccountNumber(), 5_000L,
+                                    LocalDateTime.now().plusDays(1), null, TransactionType.TRANSFER_OUT, owner.getId())
+                                    .getTransactionId());
+                        } else if (action == 2 && !scheduledIds.isEmpty()) {
+                            // 같은 예약 송금을 여러 스레드가 동시에 취소할 수 있다
+                            transactionService.cancelScheduledTransfer(
+                                    scheduledIds.get(random.nextInt(scheduledIds.size())), owner.getId());
+                        } else {
+                            transactionService.transfer(from.getId(), to.getAccountNumber(),
+                                    1L + random.nextInt(20_000), null, null, TransactionType.TRANSFER_OUT, owner.getId());
+                        }
+                        completed.incrementAndGet();
+                    } catch (InsufficientBalanceException | ConcurrentTransferException | IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(completed.get() + rejected.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+        // 실행 중에도 주기적으로 돌던 원장 반영을 끝까지 돌려 스냅샷(accounts.balance)이 실제 잔액이 되게 한다
+        ledgerService.compact();
+
+        // 이체는 계좌 간 이동이라 합계가 그대로이고, 카드 결제 금액과 아직 실행되지 않은 예약 송금 금액만큼만 줄어든다
+        long withdrawn = transactionRepository.findAll().stream()
+                .filter(tx -> tx.getCardPayment() != null || tx.getStatus() == TransactionStatus.SCHEDULED)
+                .mapToLong(tx -> tx.getAmount())
+                .sum();
+        List<Account> reloaded = accountRepository.findAllById(accounts.stream().map(Account::getId).toList());
+        long total = reloaded.stream().mapToLong(Account::getBalance).sum();
+
+        assertThat(total).isEqualTo((long) ACCOUNT_COUNT * INITIAL_BALANCE - withdrawn);
+        assertThat(reloaded).allSatisfy(account -> assertThat(account.getBalance()).isNotNegative());
+    }
+}
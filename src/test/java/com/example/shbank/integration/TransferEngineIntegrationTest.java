@@ -0,0 +1,166 @@
+package com.example.shbank.integration;
+
+import com.example.shbank.dto.transaction.TransactionResponse;
+import com.example.shbank.entity.Account;
+import com.example.shbank.entity.User;
+import com.example.shbank.enums.AccountType;
+import com.example.shbank.enums.TransactionType;
+import com.example.shbank.exception.transaction.InsufficientBalanceException;
+import com.example.shbank.repository.AccountRepository;
+import com.example.shbank.repository.LedgerEntryRepository;
+import com.example.shbank.repository.TransactionRepository;
+import com.example.shbank.repository.UserRepository;
+import com.example.shbank.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 이체 엔진을 켰을 때 같은 계좌에서 동시에 나가는 이체/카드 결제가 파티션에서 차례로 처리되어
+// 잔액을 넘겨 출금되지 않고, 응답을 받은 거래는 모두 커밋되어 있는지 확인
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "scheduled-transfer.enabled=false",
+        "transfer.engine.enabled=true", "transfer.engine.partitions=2"})
+@Testcontainers
+class TransferEngineIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 100_000;
+
+    @Container
+    public static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("shbank_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    public static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mysqlContainer::getUsername);
+        registry.add("spring.datasource.password", mysqlContainer::getPassword);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Account sender;
+    private Account recipient;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .name("홍길동")
+                .password("password")
+                .build());
+        sender = accountRepository.save(account("1234-000-000001"));
+        recipient = accountRepository.save(account("1234-000-000002"));
+    }
+
+    @Test
+    void concurrentTransfersAndPayments_neverOverdraw() throws Exception {
+        int threads = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<TransactionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            boolean card = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return card
+                            ? transactionService.cardPayment(sender.getId(), 5_000L, "가맹점")
+                            : transactionService.transfer(sender.getId(), recipient.getAccountNumber(), 5_000L,
+                                    null, null, TransactionType.TRANSFER_OUT, owner.getId());
+                } catch (InsufficientBalanceException e) {
+                    rejected.incrementAndGet();
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<TransactionResponse> responses = new ArrayList<>();
+        for (Future<TransactionResponse> future : futures) {
+            TransactionResponse response = future.get(30, TimeUnit.SECONDS);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        executor.shutdown();
+
+        // 100,000 / 5,000 = 20건만 성공하고, 응답마다 남은 잔액이 서로 다르다
+        assertThat(responses).hasSize(20);
+        assertThat(rejected).hasValue(20);
+        assertThat(responses).extracting(TransactionResponse::getBalance).doesNotHaveDuplicates();
+        assertThat(transactionRepository.count()).isEqualTo(20);
+        assertThat(accountRepository.findBalanceById(sender.getId())).isZero();
+    }
+
+    @Test
+    void transfer_creditsRecipientThroughLedger() {
+        TransactionResponse response = transactionService.transfer(sender.getId(), recipient.getAccountNumber(),
+                30_000L, null, null, TransactionType.TRANSFER_OUT, owner.getId());
+
+        assertThat(response.getBalance()).isEqualTo(INITIAL_BALANCE - 30_000);
+        assertThat(accountRepository.findBalanceById(recipient.getId())).isEqualTo(INITIAL_BALANCE + 30_000);
+        assertThat(ledgerEntryRepository.findAll())
+                .singleElement()
+                .satisfies(entry -> assertThat(entry.getTransactionId()).isEqualTo(response.getTransactionId()));
+
+        assertThatThrownBy(() -> transactionService.cardPayment(sender.getId(), INITIAL_BALANCE, "가맹점"))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .user(owner)
+                .accountNumber(accountNumber)
+                .accountName("계좌 " + accountNumber)
+                .balance(INITIAL_BALANCE)
+                .authPassword("password")
+                .type(AccountType.CHECKING)
+                .build();
+    }
+}
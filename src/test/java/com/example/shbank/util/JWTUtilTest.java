@@ -0,0 +1,58 @@
+package com.example.shbank.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "YmVzaWRld2hpc3RsZXBsdXJhbGNoZWNrZnV0dXJlYmFieWxha2ViZWdhbmdyZWF0bHk=";
+    private static final String OTHER_SECRET = "b3RoZXJzZWNyZXRvdGhlcnNlY3JldG90aGVyc2VjcmV0b3RoZXJzZWNyZXQxMjM0NTY=";
+
+    @Test
+    void authenticate_returnsAllClaims() {
+        JWTUtil jwtUtil = jwtUtil(SECRET, 60_000, 100);
+        String token = jwtUtil.generateAccessToken(7L, "user@example.com");
+
+        JWTUtil.VerifiedToken verified = jwtUtil.authenticate(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.email()).isEqualTo("user@example.com");
+        assertThat(verified.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+        // 캐시에서 꺼낸 결과도 같다
+        assertThat(jwtUtil.authenticate(token)).contains(verified);
+    }
+
+    @Test
+    void authenticate_rejectsInvalidTokens() {
+        JWTUtil jwtUtil = jwtUtil(SECRET, 60_000, 100);
+        String token = jwtUtil.generateAccessToken(7L, "user@example.com");
+        String forged = jwtUtil(OTHER_SECRET, 60_000, 100).generateAccessToken(7L, "user@example.com");
+
+        assertThat(jwtUtil.authenticate(forged)).isEmpty();
+        assertThat(jwtUtil.authenticate(token.substring(0, token.length() - 2))).isEmpty();
+        assertThat(jwtUtil.authenticate("")).isEmpty();
+        assertThat(jwtUtil.authenticate(null)).isEmpty();
+    }
+
+    @Test
+    void authenticate_cachedTokenExpiresWithToken() throws Exception {
+        JWTUtil jwtUtil = jwtUtil(SECRET, 1_000, 100);
+        String token = jwtUtil.generateAccessToken(7L, "user@example.com");
+        assertThat(jwtUtil.authenticate(token)).isPresent();
+
+        Thread.sleep(1_100);
+
+        assertThat(jwtUtil.authenticate(token)).isEmpty();
+    }
+
+    private JWTUtil jwtUtil(String secret, long accessTokenValidity, long cacheSize) {
+        JWTUtil jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenValidity", accessTokenValidity);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", cacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
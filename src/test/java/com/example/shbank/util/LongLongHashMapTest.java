@@ -0,0 +1,55 @@
+package com.example.shbank.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putGetRemove_matchesHashMapAcrossResizes() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // 작은 키 범위에서 추가/덮어쓰기/삭제를 섞어 탐사 경로가 겹치고 삭제 후 당겨 채우는 경우를 만든다
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+
+    @Test
+    void get_returnsMissingValueForAbsentKey() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        map.put(7L, 70L);
+
+        assertThat(map.get(7L, -1L)).isEqualTo(70L);
+        assertThat(map.get(8L, -1L)).isEqualTo(-1L);
+        map.remove(8L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_rejectsZeroKey() {
+        assertThatThrownBy(() -> new LongLongHashMap(16).put(0L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
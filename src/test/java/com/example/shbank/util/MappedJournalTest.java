@@ -0,0 +1,113 @@
+package com.example.shbank.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    // 레코드 하나 = 마커 4 + 본문 8 + CRC 4 = 16바이트, 세그먼트마다 4개
+    private static final int PAYLOAD_SIZE = 8;
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_readsRecordsInOrderAcrossSegments() throws IOException {
+        MappedJournal journal = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        for (long i = 1; i <= 10; i++) {
+            append(journal, i);
+        }
+
+        assertThat(values(journal)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(segmentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reopen_continuesAfterLastRecord() {
+        MappedJournal journal = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        for (long i = 1; i <= 6; i++) {
+            append(journal, i);
+        }
+        journal.close();
+
+        MappedJournal reopened = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        append(reopened, 7);
+
+        assertThat(values(reopened)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void reopen_overwritesTornRecord() throws IOException {
+        MappedJournal journal = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        append(journal, 1);
+        append(journal, 2);
+        journal.close();
+
+        // 두 번째 레코드 본문이 쓰이다 만 것처럼 한 바이트를 바꾼다 (CRC 가 맞지 않게 된다)
+        try (RandomAccessFile file = new RandomAccessFile(segment(0).toFile(), "rw")) {
+            file.seek(16 + 4);
+            file.write(0x7F);
+        }
+
+        MappedJournal reopened = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        assertThat(values(reopened)).containsExactly(1L);
+
+        append(reopened, 3);
+        assertThat(values(reopened)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void replay_failsOnCorruptedFullSegment() throws IOException {
+        MappedJournal journal = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+        for (long i = 1; i <= 6; i++) {
+            append(journal, i);
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(segment(0).toFile(), "rw")) {
+            file.seek(16 * 2 + 4);
+            file.write(0x7F);
+        }
+
+        assertThatThrownBy(() -> values(journal)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void append_rejectsWrongPayloadLength() {
+        MappedJournal journal = new MappedJournal(directory, PAYLOAD_SIZE, SEGMENT_SIZE);
+
+        assertThatThrownBy(() -> journal.append(buffer -> buffer.putInt(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void append(MappedJournal journal, long value) {
+        journal.append(buffer -> buffer.putLong(value));
+    }
+
+    private static List<Long> values(MappedJournal journal) {
+        List<Long> values = new ArrayList<>();
+        journal.replay(buffer -> values.add(buffer.getLong()));
+        return values;
+    }
+
+    private Path segment(long index) {
+        return directory.resolve(String.format("%016d.journal", index));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.shbank.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_expiresAtDeadlineAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 8, 4, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = START + 1 + random.nextInt((int) wheel.maxDelayMillis());
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        // 1ms 씩 진행하면서 만료 시각이 된 항목만, 만료 시각보다 늦지도 이르지도 않게 나오는지 확인
+        int expired = 0;
+        for (long now = START + 1; now <= START + wheel.maxDelayMillis(); now++) {
+            for (Long deadline : wheel.advance(now)) {
+                assertThat(deadline).isEqualTo(now);
+                expired++;
+            }
+        }
+        assertThat(expired).isEqualTo(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_largeJumpReturnsEverythingDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 16, 3, START);
+        wheel.add("a", START + 15);
+        wheel.add("b", START + 1_000);
+        wheel.add("c", START + 2_000);
+
+        assertThat(wheel.advance(START + 1_500)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.advance(START + 1_990)).isEmpty();
+        assertThat(wheel.advance(START + 2_000)).containsExactly("c");
+    }
+
+    @Test
+    void advance_neverExpiresBeforeDeadline() {
+        // 칸 중간 시각은 다음 칸으로 올림
+        TimingWheel<String> wheel = new TimingWheel<>(10, 16, 2, START);
+        wheel.add("a", START + 15);
+
+        assertThat(wheel.advance(START + 10)).isEmpty();
+        assertThat(wheel.advance(START + 20)).containsExactly("a");
+    }
+
+    @Test
+    void add_pastDeadlineExpiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8, 2, START);
+        wheel.add("late", START - 5_000);
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+    }
+
+    @Test
+    void add_beyondRangeRejected() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8, 2, START);
+
+        assertThatThrownBy(() -> wheel.add("far", START + wheel.maxDelayMillis() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}